@@ -1,5 +1,7 @@
 package com.employeemanagementsystem;
 
+import com.employeemanagementsystem.controller.MainController;
+import com.employeemanagementsystem.controller.StartupMetrics;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -17,6 +19,9 @@ public class MainApplication extends Application {
     @Override
     public void start(Stage primaryStage) {
         try {
+            // Connect and check the schema while the window is being built
+            MainController.startSchemaCheck();
+
             Parent root = FXMLLoader.load(
                     Objects.requireNonNull(getClass().getResource("/com/employeemanagementsystem/MainView.fxml"))
             );
@@ -26,6 +31,7 @@ public class MainApplication extends Application {
             primaryStage.setScene(scene);
             primaryStage.setMaximized(false);
             primaryStage.show();
+            StartupMetrics.watchFirstFrame();
 
             System.out.println("Application started successfully!");
 
@@ -39,6 +45,8 @@ public class MainApplication extends Application {
     @Override
     public void stop() {
         try {
+            com.employeemanagementsystem.payroll.PayrollScheduler.shutdown();
+            com.employeemanagementsystem.patterns.singleton.PayrollSystem.shutdown();
             com.employeemanagementsystem.patterns.singleton.DatabaseConnection
                     .getInstance()
                     .closeConnection();
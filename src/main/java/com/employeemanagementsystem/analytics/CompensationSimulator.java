@@ -0,0 +1,132 @@
+package com.employeemanagementsystem.analytics;
+
+import com.employeemanagementsystem.model.Money;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates what-if raise and bonus scenarios over an EmployeeSnapshot.
+ *
+ * The snapshot is split into blocks that are scanned in parallel on the common
+ * fork/join pool. Each block reads every row once and evaluates all scenarios
+ * against it, accumulating into a small long[] of partial sums; partial sums are
+ * then added together. Only the snapshot arrays are read, so live Employee
+ * objects and the database are never touched, and several scenarios can be
+ * compared side by side in a single pass.
+ */
+public class CompensationSimulator {
+
+    private static final int BLOCK_SIZE = 16 * 1024;
+    private static final int MONTHS_PER_YEAR = 12;
+
+    // Layout of the per-scenario partial sums
+    private static final int AFFECTED = 0;
+    private static final int BASELINE = 1;
+    private static final int RAISE = 2;
+    private static final int BONUS = 3;
+    private static final int FIELDS = 4;
+
+    private final EmployeeSnapshot snapshot;
+
+    public CompensationSimulator(EmployeeSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Evaluate all scenarios in one parallel pass over the snapshot
+     *
+     * @return one result per scenario, in the same order
+     */
+    public List<ScenarioResult> evaluate(List<SalaryScenario> scenarios) {
+        int count = scenarios.size();
+
+        // Copy the filters and amounts into flat arrays for the inner loop
+        int[] departments = new int[count];
+        int[] types = new int[count];
+        int[] hiredBy = new int[count];
+        long[] raises = new long[count];
+        long[] bonuses = new long[count];
+        for (int s = 0; s < count; s++) {
+            SalaryScenario scenario = scenarios.get(s);
+            departments[s] = scenario.getDepartmentId();
+            types[s] = scenario.getTypeCode();
+            hiredBy[s] = scenario.getHiredOnOrBeforeEpochDay();
+            raises[s] = scenario.getRaiseBasisPoints();
+            bonuses[s] = scenario.getBonusCents();
+        }
+
+        int blocks = (snapshot.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        long[] totals = IntStream.range(0, blocks)
+                .parallel()
+                .mapToObj(block -> evaluateBlock(block, departments, types, hiredBy, raises, bonuses))
+                .reduce(new long[count * FIELDS], CompensationSimulator::merge);
+
+        List<ScenarioResult> results = new ArrayList<>(count);
+        for (int s = 0; s < count; s++) {
+            int base = s * FIELDS;
+            results.add(new ScenarioResult(scenarios.get(s), (int) totals[base + AFFECTED],
+                    Money.multiply(totals[base + BASELINE], MONTHS_PER_YEAR),
+                    Money.multiply(totals[base + RAISE], MONTHS_PER_YEAR),
+                    totals[base + BONUS]));
+        }
+        return results;
+    }
+
+    private long[] evaluateBlock(int block, int[] departments, int[] types, int[] hiredBy,
+                                 long[] raises, long[] bonuses) {
+        int count = departments.length;
+        long[] partial = new long[count * FIELDS];
+        int from = block * BLOCK_SIZE;
+        int to = Math.min(from + BLOCK_SIZE, snapshot.size());
+
+        for (int row = from; row < to; row++) {
+            long salary = snapshot.getSalaryCents(row);
+            int department = snapshot.getDepartmentId(row);
+            int type = snapshot.getTypeCode(row);
+            int hireDay = snapshot.getHireEpochDay(row);
+
+            for (int s = 0; s < count; s++) {
+                if ((departments[s] != SalaryScenario.ANY && departments[s] != department)
+                        || (types[s] != SalaryScenario.ANY && types[s] != type)
+                        || hireDay > hiredBy[s]) {
+                    continue;
+                }
+                int base = s * FIELDS;
+                partial[base + AFFECTED]++;
+                partial[base + BASELINE] = Money.add(partial[base + BASELINE], salary);
+                // Raises are rounded per employee, as they would be on a payslip
+                partial[base + RAISE] = Money.add(partial[base + RAISE], Money.percent(salary, raises[s]));
+                partial[base + BONUS] = Money.add(partial[base + BONUS], bonuses[s]);
+            }
+        }
+        return partial;
+    }
+
+    private static long[] merge(long[] left, long[] right) {
+        long[] merged = new long[left.length];
+        for (int i = 0; i < left.length; i++) {
+            merged[i] = Money.add(left[i], right[i]);
+        }
+        return merged;
+    }
+
+    /**
+     * Format results as a side-by-side comparison table
+     */
+    public static String formatComparison(List<ScenarioResult> results) {
+        StringBuilder report = new StringBuilder("=== WHAT-IF SIMULATION (yearly) ===\n");
+        report.append(String.format("%-32s %10s %18s %16s %14s %18s%n",
+                "Scenario", "Employees", "Baseline", "Raise", "Bonus", "Additional"));
+        for (ScenarioResult result : results) {
+            report.append(String.format("%-32s %10d %18s %16s %14s %18s%n",
+                    result.getScenario().getName(),
+                    result.getAffectedEmployees(),
+                    Money.format(result.getBaselineAnnualCents()),
+                    Money.format(result.getRaiseAnnualCents()),
+                    Money.format(result.getBonusCents()),
+                    Money.format(result.getAdditionalCostCents())));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.employeemanagementsystem.analytics;
+
+import com.employeemanagementsystem.model.EmployeeType;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Read-only columnar copy of the employee table for analytics.
+ *
+ * Each field is one primitive array indexed by row, so a scan over a million
+ * employees touches a few contiguous arrays instead of a million Employee
+ * objects. A snapshot is detached from the live objects and the database:
+ * nothing computed from it can change either.
+ */
+public final class EmployeeSnapshot {
+
+    // Type codes are EmployeeType codes, the values stored in employees.employee_type
+    public static final byte TYPE_FULL_TIME = (byte) 0;
+    public static final byte TYPE_PART_TIME = (byte) 1;
+    public static final byte TYPE_CONTRACTOR = (byte) 2;
+    public static final int TYPE_COUNT = EmployeeType.COUNT;
+
+    // Department id used for employees without a department
+    public static final int NO_DEPARTMENT = 0;
+
+    private final int size;
+    private final int[] employeeIds;
+    private final long[] salaryCents;
+    private final byte[] typeCodes;
+    private final int[] departmentIds;
+    private final int[] hireEpochDays;
+
+    private EmployeeSnapshot(Builder builder) {
+        this.size = builder.size;
+        this.employeeIds = Arrays.copyOf(builder.employeeIds, size);
+        this.salaryCents = Arrays.copyOf(builder.salaryCents, size);
+        this.typeCodes = Arrays.copyOf(builder.typeCodes, size);
+        this.departmentIds = Arrays.copyOf(builder.departmentIds, size);
+        this.hireEpochDays = Arrays.copyOf(builder.hireEpochDays, size);
+    }
+
+    /**
+     * Type code for an employee_type value ("Full-time", "Part-time", "Contractor")
+     */
+    public static byte typeCode(String employeeType) {
+        try {
+            return (byte) EmployeeType.parse(employeeType).getCode();
+        } catch (IllegalArgumentException e) {
+            return TYPE_CONTRACTOR;
+        }
+    }
+
+    /**
+     * employee_type value for a type code
+     */
+    public static String typeName(int typeCode) {
+        return EmployeeType.fromCode(typeCode).getDisplayName();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getEmployeeId(int row) {
+        return employeeIds[row];
+    }
+
+    /**
+     * Monthly salary in cents
+     */
+    public long getSalaryCents(int row) {
+        return salaryCents[row];
+    }
+
+    public byte getTypeCode(int row) {
+        return typeCodes[row];
+    }
+
+    public int getDepartmentId(int row) {
+        return departmentIds[row];
+    }
+
+    public int getHireEpochDay(int row) {
+        return hireEpochDays[row];
+    }
+
+    /**
+     * Growable column buffers used while reading rows from the database
+     */
+    public static final class Builder {
+        private int size;
+        private int[] employeeIds;
+        private long[] salaryCents;
+        private byte[] typeCodes;
+        private int[] departmentIds;
+        private int[] hireEpochDays;
+
+        public Builder() {
+            this(1024);
+        }
+
+        public Builder(int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            employeeIds = new int[capacity];
+            salaryCents = new long[capacity];
+            typeCodes = new byte[capacity];
+            departmentIds = new int[capacity];
+            hireEpochDays = new int[capacity];
+        }
+
+        public Builder add(int employeeId, long salary, byte typeCode, int departmentId, LocalDate hireDate) {
+            if (size == employeeIds.length) {
+                int capacity = size * 2;
+                employeeIds = Arrays.copyOf(employeeIds, capacity);
+                salaryCents = Arrays.copyOf(salaryCents, capacity);
+                typeCodes = Arrays.copyOf(typeCodes, capacity);
+                departmentIds = Arrays.copyOf(departmentIds, capacity);
+                hireEpochDays = Arrays.copyOf(hireEpochDays, capacity);
+            }
+            employeeIds[size] = employeeId;
+            salaryCents[size] = salary;
+            typeCodes[size] = typeCode;
+            departmentIds[size] = departmentId;
+            hireEpochDays[size] = (int) hireDate.toEpochDay();
+            size++;
+            return this;
+        }
+
+        public EmployeeSnapshot build() {
+            return new EmployeeSnapshot(this);
+        }
+    }
+}
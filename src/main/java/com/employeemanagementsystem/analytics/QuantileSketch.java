@@ -0,0 +1,93 @@
+package com.employeemanagementsystem.analytics;
+
+import com.employeemanagementsystem.payroll.IntLongHashMap;
+import java.util.Arrays;
+
+/**
+ * Mergeable approximate quantile sketch with a fixed relative error.
+ *
+ * Values are counted in logarithmic buckets: bucket i covers
+ * (gamma^(i-1), gamma^i] with gamma = (1 + a) / (1 - a), so any quantile is
+ * returned within a relative error a of a value actually seen. The sketch
+ * stays a few hundred buckets for any salary range, and two sketches merge by
+ * adding bucket counts, which makes it suitable for parallel partial results.
+ * Values are non-negative amounts in cents; zero has its own counter.
+ */
+public class QuantileSketch {
+
+    public static final double DEFAULT_RELATIVE_ERROR = 0.01;
+
+    private final double relativeError;
+    private final double gamma;
+    private final double logGamma;
+    private final IntLongHashMap buckets = new IntLongHashMap();
+    private long zeroCount;
+    private long count;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ERROR);
+    }
+
+    public QuantileSketch(double relativeError) {
+        this.relativeError = relativeError;
+        this.gamma = (1 + relativeError) / (1 - relativeError);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(long value) {
+        if (value <= 0) {
+            zeroCount++;
+        } else {
+            buckets.addTo((int) Math.ceil(Math.log(value) / logGamma), 1);
+        }
+        count++;
+    }
+
+    /**
+     * Add the counts of another sketch built with the same relative error
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeError != relativeError) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative errors");
+        }
+        other.buckets.forEach(buckets::addTo);
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * Approximate value at quantile q (0..1), or 0 if the sketch is empty
+     */
+    public long quantile(double q) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(q * count);
+        if (rank <= zeroCount) {
+            return 0;
+        }
+
+        int[] indexes = new int[buckets.size()];
+        int[] position = new int[1];
+        buckets.forEach((index, bucketCount) -> indexes[position[0]++] = index);
+        Arrays.sort(indexes);
+
+        long seen = zeroCount;
+        for (int index : indexes) {
+            seen += buckets.get(index, 0L);
+            if (seen >= rank) {
+                // Midpoint of the bucket in relative terms
+                return Math.round(2 * Math.pow(gamma, index) / (gamma + 1));
+            }
+        }
+        return Math.round(2 * Math.pow(gamma, indexes[indexes.length - 1]) / (gamma + 1));
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getRelativeError() {
+        return relativeError;
+    }
+}
@@ -0,0 +1,59 @@
+package com.employeemanagementsystem.analytics;
+
+import com.employeemanagementsystem.model.Money;
+
+/**
+ * Salary counts in fixed-width pay bands; the last band is open-ended.
+ * Two histograms with the same bands merge by adding counts.
+ */
+public class SalaryHistogram {
+
+    // $1,000 bands from $0 to $15,000+ (monthly)
+    public static final long DEFAULT_BAND_WIDTH_CENTS = 100_000;
+    public static final int DEFAULT_BANDS = 16;
+
+    private final long bandWidthCents;
+    private final long[] counts;
+
+    public SalaryHistogram() {
+        this(DEFAULT_BAND_WIDTH_CENTS, DEFAULT_BANDS);
+    }
+
+    public SalaryHistogram(long bandWidthCents, int bands) {
+        this.bandWidthCents = bandWidthCents;
+        this.counts = new long[bands];
+    }
+
+    public void add(long cents) {
+        int band = (int) Math.min(Math.max(cents, 0) / bandWidthCents, counts.length - 1);
+        counts[band]++;
+    }
+
+    public void merge(SalaryHistogram other) {
+        if (other.bandWidthCents != bandWidthCents || other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Cannot merge histograms with different bands");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    public int getBandCount() {
+        return counts.length;
+    }
+
+    public long getCount(int band) {
+        return counts[band];
+    }
+
+    /**
+     * Label such as "$1000.00 - $1999.99" or "$15000.00+"
+     */
+    public String getBandLabel(int band) {
+        long from = band * bandWidthCents;
+        if (band == counts.length - 1) {
+            return "$" + Money.format(from) + "+";
+        }
+        return "$" + Money.format(from) + " - $" + Money.format(from + bandWidthCents - 1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.employeemanagementsystem.analytics;
+
+import com.employeemanagementsystem.model.Money;
+import java.time.LocalDate;
+
+/**
+ * A what-if compensation change: a percentage raise and/or a one-off bonus,
+ * applied to the employees matching a department, type and hire-date filter.
+ * Immutable; use the with* methods to derive variants.
+ */
+public final class SalaryScenario {
+
+    // Filter value that matches every department / type
+    public static final int ANY = -1;
+
+    private final String name;
+    private final int departmentId;
+    private final int typeCode;
+    private final int hiredOnOrBeforeEpochDay;
+    private final long raiseBasisPoints;
+    private final long bonusCents;
+
+    private SalaryScenario(String name, int departmentId, int typeCode, int hiredOnOrBeforeEpochDay,
+                           long raiseBasisPoints, long bonusCents) {
+        this.name = name;
+        this.departmentId = departmentId;
+        this.typeCode = typeCode;
+        this.hiredOnOrBeforeEpochDay = hiredOnOrBeforeEpochDay;
+        this.raiseBasisPoints = raiseBasisPoints;
+        this.bonusCents = bonusCents;
+    }
+
+    /**
+     * Scenario with no change yet, matching every employee
+     */
+    public static SalaryScenario named(String name) {
+        return new SalaryScenario(name, ANY, ANY, Integer.MAX_VALUE, 0, 0);
+    }
+
+    /**
+     * Monthly salary raise in percent, e.g. 4.0 for 4%
+     */
+    public SalaryScenario withRaisePercent(double percent) {
+        return new SalaryScenario(name, departmentId, typeCode, hiredOnOrBeforeEpochDay,
+                Math.round(percent * 100), bonusCents);
+    }
+
+    /**
+     * One-off bonus paid to every matching employee
+     */
+    public SalaryScenario withBonus(double amount) {
+        return new SalaryScenario(name, departmentId, typeCode, hiredOnOrBeforeEpochDay,
+                raiseBasisPoints, Money.ofDouble(amount));
+    }
+
+    public SalaryScenario withDepartment(int departmentId) {
+        return new SalaryScenario(name, departmentId, typeCode, hiredOnOrBeforeEpochDay,
+                raiseBasisPoints, bonusCents);
+    }
+
+    /**
+     * Restrict to one employee type, see EmployeeSnapshot.typeCode
+     */
+    public SalaryScenario withType(int typeCode) {
+        return new SalaryScenario(name, departmentId, typeCode, hiredOnOrBeforeEpochDay,
+                raiseBasisPoints, bonusCents);
+    }
+
+    /**
+     * Restrict to employees hired on or before a date (e.g. at least a year of tenure)
+     */
+    public SalaryScenario withHiredOnOrBefore(LocalDate date) {
+        return new SalaryScenario(name, departmentId, typeCode, (int) date.toEpochDay(),
+                raiseBasisPoints, bonusCents);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDepartmentId() {
+        return departmentId;
+    }
+
+    public int getTypeCode() {
+        return typeCode;
+    }
+
+    public int getHiredOnOrBeforeEpochDay() {
+        return hiredOnOrBeforeEpochDay;
+    }
+
+    /**
+     * Raise in basis points (100 = 1%)
+     */
+    public long getRaiseBasisPoints() {
+        return raiseBasisPoints;
+    }
+
+    public long getBonusCents() {
+        return bonusCents;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
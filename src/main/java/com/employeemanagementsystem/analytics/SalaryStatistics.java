@@ -0,0 +1,72 @@
+package com.employeemanagementsystem.analytics;
+
+import com.employeemanagementsystem.model.ImmutableEmployee;
+import com.employeemanagementsystem.model.EmployeeType;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Salary statistics for all employees, per department and per employee type.
+ * A partial aggregate: one instance per worker, combined with merge().
+ */
+public class SalaryStatistics {
+    private final SalaryStats overall = new SalaryStats();
+    private final Map<Integer, SalaryStats> byDepartment = new HashMap<>();
+    private final Map<Integer, String> departmentNames = new HashMap<>();
+    // Indexed by EmployeeType code
+    private final SalaryStats[] byEmployeeType = new SalaryStats[EmployeeType.COUNT];
+
+    /**
+     * Add one employee's calculated salary
+     */
+    public void add(ImmutableEmployee employee) {
+        long cents = employee.getSalaryCents();
+        int departmentId = employee.getDepartment() != null
+                ? employee.getDepartment().getDepartmentId()
+                : EmployeeSnapshot.NO_DEPARTMENT;
+
+        overall.add(cents);
+        byDepartment.computeIfAbsent(departmentId, id -> new SalaryStats()).add(cents);
+        departmentNames.putIfAbsent(departmentId, employee.getDepartmentName());
+        int code = employee.getType().getCode();
+        if (byEmployeeType[code] == null) {
+            byEmployeeType[code] = new SalaryStats();
+        }
+        byEmployeeType[code].add(cents);
+    }
+
+    /**
+     * Combine another partial into this one
+     */
+    public SalaryStatistics merge(SalaryStatistics other) {
+        overall.merge(other.overall);
+        other.byDepartment.forEach((id, stats) -> byDepartment.merge(id, stats, SalaryStats::merge));
+        other.departmentNames.forEach(departmentNames::putIfAbsent);
+        for (int code = 0; code < byEmployeeType.length; code++) {
+            SalaryStats stats = other.byEmployeeType[code];
+            if (stats != null) {
+                byEmployeeType[code] = byEmployeeType[code] == null ? stats : byEmployeeType[code].merge(stats);
+            }
+        }
+        return this;
+    }
+
+    public SalaryStats getOverall() {
+        return overall;
+    }
+
+    public Map<Integer, SalaryStats> getByDepartment() {
+        return byDepartment;
+    }
+
+    public String getDepartmentName(int departmentId) {
+        return departmentNames.getOrDefault(departmentId, "No Department");
+    }
+
+    /**
+     * Statistics for one employee type, or null if no employee of that type was added
+     */
+    public SalaryStats getByEmployeeType(EmployeeType type) {
+        return byEmployeeType[type.getCode()];
+    }
+}
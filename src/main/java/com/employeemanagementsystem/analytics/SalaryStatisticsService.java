@@ -0,0 +1,81 @@
+package com.employeemanagementsystem.analytics;
+
+import com.employeemanagementsystem.model.EmployeeType;
+import com.employeemanagementsystem.model.ImmutableEmployee;
+import com.employeemanagementsystem.model.Money;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collector;
+
+/**
+ * Compensation analytics over calculated salaries.
+ *
+ * Employees are processed with a parallel stream; each fork/join worker fills
+ * its own SalaryStatistics partial and partials are merged pairwise, so no
+ * shared state is locked while salaries are calculated.
+ */
+public class SalaryStatisticsService {
+
+    private static final double[] REPORT_PERCENTILES = {25, 50, 75, 90, 99};
+
+    /**
+     * Compute statistics for all given employees
+     */
+    public SalaryStatistics compute(Collection<ImmutableEmployee> employees) {
+        return employees.parallelStream().collect(Collector.of(
+                SalaryStatistics::new,
+                SalaryStatistics::add,
+                SalaryStatistics::merge,
+                Collector.Characteristics.UNORDERED));
+    }
+
+    /**
+     * Format statistics as a plain-text report
+     */
+    public String generateReport(SalaryStatistics statistics) {
+        StringBuilder report = new StringBuilder("=== SALARY STATISTICS (monthly) ===\n\n");
+
+        appendSection(report, "All Employees", statistics.getOverall());
+
+        report.append("\n--- By Department ---\n");
+        Map<String, SalaryStats> byDepartment = new TreeMap<>();
+        statistics.getByDepartment().forEach((id, stats) ->
+                byDepartment.put(statistics.getDepartmentName(id), stats));
+        byDepartment.forEach((name, stats) -> appendSection(report, name, stats));
+
+        report.append("\n--- By Employee Type ---\n");
+        for (EmployeeType type : EmployeeType.values()) {
+            SalaryStats stats = statistics.getByEmployeeType(type);
+            if (stats != null) {
+                appendSection(report, type.getDisplayName(), stats);
+            }
+        }
+
+        report.append("\n--- Pay Bands (all employees) ---\n");
+        SalaryHistogram histogram = statistics.getOverall().getHistogram();
+        for (int band = 0; band < histogram.getBandCount(); band++) {
+            if (histogram.getCount(band) > 0) {
+                report.append(String.format("%-26s %8d%n", histogram.getBandLabel(band), histogram.getCount(band)));
+            }
+        }
+
+        return report.toString();
+    }
+
+    private void appendSection(StringBuilder report, String title, SalaryStats stats) {
+        report.append(title).append(": ").append(stats.getCount()).append(" employees")
+                .append(" | Min: $").append(Money.format(stats.getMinCents()))
+                .append(" | Max: $").append(Money.format(stats.getMaxCents()))
+                .append(" | Mean: $").append(Money.format(stats.getMeanCents()))
+                .append("\n");
+
+        report.append("  Percentiles (exact / approx):");
+        for (double p : REPORT_PERCENTILES) {
+            report.append(String.format(" P%.0f $%s / $%s", p,
+                    Money.format(stats.exactPercentile(p)),
+                    Money.format(stats.approximatePercentile(p))));
+        }
+        report.append("\n");
+    }
+}
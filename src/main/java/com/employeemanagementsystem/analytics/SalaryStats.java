@@ -0,0 +1,111 @@
+package com.employeemanagementsystem.analytics;
+
+import com.employeemanagementsystem.model.Money;
+import java.util.Arrays;
+
+/**
+ * Salary statistics for one group of employees (a department, a type or everyone).
+ *
+ * Built as a partial aggregate: each worker fills its own instance with add()
+ * and partials are combined with merge(). Exact percentiles keep every value in
+ * a primitive long[] that is sorted once, on first use after the last merge;
+ * approximate percentiles come from a QuantileSketch, which stays small for any
+ * group size.
+ */
+public class SalaryStats {
+    private long count;
+    private long totalCents;
+    private long minCents = Long.MAX_VALUE;
+    private long maxCents = Long.MIN_VALUE;
+    private long[] values = new long[16];
+    private boolean sorted = true;
+    private final QuantileSketch sketch = new QuantileSketch();
+    private final SalaryHistogram histogram = new SalaryHistogram();
+
+    public void add(long cents) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[(int) count] = cents;
+        sorted = false;
+
+        count++;
+        totalCents = Money.add(totalCents, cents);
+        minCents = Math.min(minCents, cents);
+        maxCents = Math.max(maxCents, cents);
+        sketch.add(cents);
+        histogram.add(cents);
+    }
+
+    /**
+     * Combine another partial into this one
+     */
+    public SalaryStats merge(SalaryStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        int combined = Math.toIntExact(count + other.count);
+        if (combined > values.length) {
+            values = Arrays.copyOf(values, Math.max(combined, values.length * 2));
+        }
+        System.arraycopy(other.values, 0, values, (int) count, (int) other.count);
+        sorted = false;
+
+        count = combined;
+        totalCents = Money.add(totalCents, other.totalCents);
+        minCents = Math.min(minCents, other.minCents);
+        maxCents = Math.max(maxCents, other.maxCents);
+        sketch.merge(other.sketch);
+        histogram.merge(other.histogram);
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public long getMinCents() {
+        return count == 0 ? 0 : minCents;
+    }
+
+    public long getMaxCents() {
+        return count == 0 ? 0 : maxCents;
+    }
+
+    /**
+     * Mean rounded to the nearest cent
+     */
+    public long getMeanCents() {
+        return count == 0 ? 0 : Math.round((double) totalCents / count);
+    }
+
+    /**
+     * Exact percentile (nearest rank), p between 0 and 100
+     */
+    public long exactPercentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(values, 0, (int) count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * count);
+        return values[Math.max(0, Math.min(rank, (int) count) - 1)];
+    }
+
+    /**
+     * Approximate percentile from the sketch, p between 0 and 100
+     */
+    public long approximatePercentile(double p) {
+        return sketch.quantile(p / 100.0);
+    }
+
+    public SalaryHistogram getHistogram() {
+        return histogram;
+    }
+}
@@ -0,0 +1,69 @@
+package com.employeemanagementsystem.analytics;
+
+import com.employeemanagementsystem.model.Money;
+
+/**
+ * Yearly cost of one simulated scenario. All amounts are in cents.
+ */
+public final class ScenarioResult {
+    private final SalaryScenario scenario;
+    private final int affectedEmployees;
+    private final long baselineAnnualCents;
+    private final long raiseAnnualCents;
+    private final long bonusCents;
+
+    public ScenarioResult(SalaryScenario scenario, int affectedEmployees, long baselineAnnualCents,
+                          long raiseAnnualCents, long bonusCents) {
+        this.scenario = scenario;
+        this.affectedEmployees = affectedEmployees;
+        this.baselineAnnualCents = baselineAnnualCents;
+        this.raiseAnnualCents = raiseAnnualCents;
+        this.bonusCents = bonusCents;
+    }
+
+    public SalaryScenario getScenario() {
+        return scenario;
+    }
+
+    /**
+     * Employees matching the scenario filter
+     */
+    public int getAffectedEmployees() {
+        return affectedEmployees;
+    }
+
+    /**
+     * Current yearly payroll of the affected employees
+     */
+    public long getBaselineAnnualCents() {
+        return baselineAnnualCents;
+    }
+
+    /**
+     * Extra yearly payroll caused by the raise
+     */
+    public long getRaiseAnnualCents() {
+        return raiseAnnualCents;
+    }
+
+    /**
+     * Total of one-off bonuses
+     */
+    public long getBonusCents() {
+        return bonusCents;
+    }
+
+    /**
+     * Extra cost in the first year: raise plus bonuses
+     */
+    public long getAdditionalCostCents() {
+        return Money.add(raiseAnnualCents, bonusCents);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d employees | Baseline: $%s | Additional: $%s / year",
+                scenario.getName(), affectedEmployees,
+                Money.format(baselineAnnualCents), Money.format(getAdditionalCostCents()));
+    }
+}
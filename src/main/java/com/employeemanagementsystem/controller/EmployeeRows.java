@@ -0,0 +1,116 @@
+package com.employeemanagementsystem.controller;
+
+import com.employeemanagementsystem.model.Employee;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows of the employee table with an id -> row index map.
+ *
+ * After a save, add or delete only the affected row is patched in place, so
+ * the table keeps its items list, its scroll position and its other rows;
+ * a full reload is only needed when the whole result changes (startup,
+ * search, sort, column filters). Use from the FX application thread only.
+ */
+public class EmployeeRows {
+    private final ObservableList<Employee> items = FXCollections.observableArrayList();
+    private final Map<Integer, Integer> indexById = new HashMap<>();
+
+    /**
+     * The list to give the TableView; it stays the same instance for the table's lifetime
+     */
+    public ObservableList<Employee> getItems() {
+        return items;
+    }
+
+    /**
+     * Replace every row, e.g. after loading or searching
+     */
+    public void setAll(List<Employee> employees) {
+        items.setAll(employees);
+        indexById.clear();
+        for (int i = 0; i < employees.size(); i++) {
+            indexById.put(employees.get(i).getEmployeeId(), i);
+        }
+    }
+
+    /**
+     * Row index of an employee, or -1 if it is not shown
+     */
+    public int indexOf(int employeeId) {
+        Integer index = indexById.get(employeeId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Append a new employee, or replace its row if it is already shown
+     *
+     * @return the row index
+     */
+    public int add(Employee employee) {
+        int index = indexOf(employee.getEmployeeId());
+        if (index >= 0) {
+            items.set(index, employee);
+            return index;
+        }
+        indexById.put(employee.getEmployeeId(), items.size());
+        items.add(employee);
+        return items.size() - 1;
+    }
+
+    /**
+     * Append several employees with a single list change. Employees that are
+     * already shown (e.g. saved here and then fetched again with the next page)
+     * replace their row instead.
+     */
+    public void addAll(List<Employee> employees) {
+        List<Employee> appended = new ArrayList<>(employees.size());
+        int next = items.size();
+        for (Employee employee : employees) {
+            int index = indexOf(employee.getEmployeeId());
+            if (index >= 0) {
+                items.set(index, employee);
+            } else {
+                indexById.put(employee.getEmployeeId(), next++);
+                appended.add(employee);
+            }
+        }
+        items.addAll(appended);
+    }
+
+    /**
+     * Replace the row of an employee with the saved version
+     *
+     * @return the row index, or -1 if the employee is not shown
+     */
+    public int replace(Employee employee) {
+        int index = indexOf(employee.getEmployeeId());
+        if (index >= 0) {
+            items.set(index, employee);
+        }
+        return index;
+    }
+
+    /**
+     * Remove the row of an employee. Rows after it move up by one, so their
+     * indexes are shifted; no other work is done.
+     *
+     * @return true if the employee was shown
+     */
+    public boolean remove(int employeeId) {
+        Integer index = indexById.remove(employeeId);
+        if (index == null) {
+            return false;
+        }
+        items.remove((int) index);
+        for (int i = index; i < items.size(); i++) {
+            indexById.put(items.get(i).getEmployeeId(), i);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,52 @@
+package com.employeemanagementsystem.controller;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Logs frames that took much longer than a normal 60 fps pulse, i.e. times the
+ * FX application thread was blocked. Used to check that database work stays
+ * off the FX thread; enable with -Dems.frameStalls=true.
+ *
+ * Keeping the timer running makes JavaFX pulse continuously, so it is off by default.
+ */
+public class FrameStallMonitor extends AnimationTimer {
+
+    // A 60 fps frame is ~16.7 ms; anything above this is a visible stall
+    private static final long STALL_THRESHOLD_NANOS = 50_000_000L;
+
+    private long lastFrame;
+    private int stalls;
+    private long worstNanos;
+
+    /**
+     * Start monitoring if -Dems.frameStalls=true is set
+     */
+    public static void startIfEnabled() {
+        if (Boolean.getBoolean("ems.frameStalls")) {
+            new FrameStallMonitor().start();
+            System.out.println("Frame stall monitor started.");
+        }
+    }
+
+    @Override
+    public void handle(long now) {
+        if (lastFrame != 0) {
+            long gap = now - lastFrame;
+            if (gap > STALL_THRESHOLD_NANOS) {
+                stalls++;
+                worstNanos = Math.max(worstNanos, gap);
+                System.out.println("Frame stall: " + gap / 1_000_000 + " ms (" + stalls
+                        + " stalls, worst " + worstNanos / 1_000_000 + " ms)");
+            }
+        }
+        lastFrame = now;
+    }
+
+    public int getStalls() {
+        return stalls;
+    }
+
+    public long getWorstMillis() {
+        return worstNanos / 1_000_000;
+    }
+}
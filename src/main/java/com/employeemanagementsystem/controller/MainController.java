@@ -1,5 +1,11 @@
 package com.employeemanagementsystem.controller;
 
+import com.employeemanagementsystem.analytics.CompensationSimulator;
+import com.employeemanagementsystem.analytics.EmployeeSnapshot;
+import com.employeemanagementsystem.analytics.SalaryScenario;
+import com.employeemanagementsystem.analytics.SalaryStatistics;
+import com.employeemanagementsystem.analytics.SalaryStatisticsService;
+import com.employeemanagementsystem.analytics.ScenarioResult;
 import com.employeemanagementsystem.database.*;
 import com.employeemanagementsystem.model.*;
 import com.employeemanagementsystem.patterns.builder.EmployeeBuilder;
@@ -7,20 +13,41 @@ import com.employeemanagementsystem.patterns.decorator.*;
 import com.employeemanagementsystem.patterns.factory.*;
 import com.employeemanagementsystem.patterns.prototype.EmployeePrototypeRegistry;
 import com.employeemanagementsystem.patterns.singleton.*;
+import com.employeemanagementsystem.payroll.PayrollBatchRun;
+import com.employeemanagementsystem.payroll.PayrollRunSummary;
+import com.employeemanagementsystem.payroll.PayrollSchedule;
+import com.employeemanagementsystem.payroll.PayrollScheduler;
+import com.employeemanagementsystem.payroll.ScheduledPayrollRun;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
+import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 import javafx.util.StringConverter;
 
+import java.io.File;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import java.util.HashSet;
-import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 /**
  * Main Controller for the Employee Management System (Ali Hassan Ali)
@@ -29,6 +56,20 @@ import java.util.Set;
  */
 public class MainController {
 
+    // Rows of the payroll report shown in the TextArea; the export holds the rest
+    private static final int REPORT_PREVIEW_ROWS = 200;
+
+    // Database work started from the UI runs here, never on the FX application thread.
+    // Four threads: at startup the schema check plus the departments, first employee
+    // page and prototypes, so the three loads run in parallel once the schema is ready
+    private static final ExecutorService DATABASE_EXECUTOR = Executors.newFixedThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "ui-database");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static CompletableFuture<Void> schemaCheck;
+
     // ==================== FXML Components (Ali Hassan Ali) ====================
 
     @FXML private TableView<Employee> employeeTable;
@@ -50,27 +91,87 @@ public class MainController {
     @FXML private TextField txtSalary;
     @FXML private ComboBox<String> cmbEmployeeType;
     @FXML private TextField txtSearch;
+    @FXML private Label lblRowCount;
+    @FXML private Button btnLoadMore;
 
     @FXML private Label lblStatus;
+    @FXML private ProgressIndicator progressLoading;
+    @FXML private Button btnAddEmployee;
+    @FXML private Button btnAddWithBuilder;
+    @FXML private Button btnUpdateEmployee;
+    @FXML private Button btnDeleteEmployee;
+    @FXML private Button btnCloneEmployee;
+    @FXML private Button btnOnboardCohort;
+    @FXML private Button btnSearch;
     @FXML private TextArea txtPayrollReport;
+    @FXML private Button btnProcessPayroll;
+    @FXML private Button btnProcessAllPayroll;
+    @FXML private Button btnCancelPayrollRun;
+    @FXML private ProgressBar progressPayroll;
+    @FXML private Button btnGeneratePayrollReport;
+    @FXML private Button btnApplyBonus;
+    @FXML private Button btnApplyOvertime;
+    @FXML private Button btnBulkAdjustment;
+    @FXML private Button btnApplyCertification;
+    @FXML private TextArea txtStatisticsReport;
+    @FXML private Button btnSalaryStatistics;
+    @FXML private Button btnExportPayrollReport;
+    @FXML private Button btnSimulateRaise;
+    @FXML private TextArea txtScheduleHistory;
+    @FXML private Label lblSchedulerStatus;
+    @FXML private ProgressBar progressScheduled;
 
     private EmployeeDAO employeeDAO;
     private DepartmentDAO departmentDAO;
-    private ObservableList<Employee> employeeList;
-    private Set<Integer> certifiedEmployees = new HashSet<>();
+    private AdjustmentDAO adjustmentDAO;
+    private PayrollDAO payrollDAO;
+    private final EmployeeRows employeeRows = new EmployeeRows();
+    private final Map<Integer, CompiledEmployee> adjustedEmployees = new HashMap<>();
+    private final EmployeeQuery employeeQuery = new EmployeeQuery();
+    private String appliedSortOrder = "";
+    private int serverRowsLoaded;
+    private int pageGeneration;
+    private TextField filterId;
+    private TextField filterLastName;
+    private TextField filterDepartment;
+    private TextField filterSalary;
+    private ComboBox<String> filterType;
+    private boolean payrollRunInProgress;
+    private volatile PayrollBatchRun activePayrollRun; // set by the run's task once it is created
+    private volatile boolean payrollRunCancelRequested;
+    private PayrollScheduler payrollScheduler; // set once the scheduler has started in the background
+    private int runningDatabaseTasks;
+
+    /**
+     * Open the database connection and check the schema in the background (Ali Hassan Ali)
+     * MainApplication calls this before loading the FXML, so the connection and
+     * DDL check overlap building the window. The startup loads wait for it inside
+     * DatabaseConnection.getInstance().
+     */
+    public static synchronized CompletableFuture<Void> startSchemaCheck() {
+        if (schemaCheck == null) {
+            schemaCheck = CompletableFuture.runAsync(() -> {
+                DatabaseConnection.getInstance();
+                StartupMetrics.phaseReady(StartupMetrics.Phase.SCHEMA);
+            }, DATABASE_EXECUTOR);
+        }
+        return schemaCheck;
+    }
+
     /**
      * Initialize the controller (Ali Hassan Ali)
+     * Only UI setup happens here; the schema check, departments, first employee
+     * page and prototypes are loaded in parallel in the background so the window
+     * appears at once. Startup counts as interactive when all of them are done.
      */
     @FXML
     public void initialize() {
-        // TODO: ALI HASSAN ALI - Initialize Singleton database connection
-        DatabaseConnection.getInstance();
-
         employeeDAO = new EmployeeDAO();
         departmentDAO = new DepartmentDAO();
+        adjustmentDAO = new AdjustmentDAO();
+        payrollDAO = new PayrollDAO();
 
-        // TODO: SHAHD AMR - Initialize prototype registry
-        EmployeePrototypeRegistry.initializePrototypes();
+        FrameStallMonitor.startIfEnabled();
 
         // Setup TableView columns
         colId.setCellValueFactory(new PropertyValueFactory<>("employeeId"));
@@ -83,16 +184,30 @@ public class MainController {
         );
         colType.setCellValueFactory(new PropertyValueFactory<>("employeeType"));
         colSalary.setCellValueFactory(new PropertyValueFactory<>("baseSalary"));
+        colSalary.setCellFactory(column -> new AdjustedSalaryCell());
+        employeeTable.setItems(employeeRows.getItems());
+        setupServerSideSorting();
+        setupColumnFilters();
 
         cmbEmployeeType.setItems(FXCollections.observableArrayList(
                 "Full-time", "Part-time", "Contractor"
         ));
         cmbEmployeeType.setValue("Full-time");
 
-        // Load departments into ComboBox
+        setupDepartmentComboBox();
+
+        // TODO: ALI HASSAN ALI - Initialize Singleton database connection (already started by MainApplication)
+        startSchemaCheck();
         loadDepartments();
+        loadEmployeePage(0, page -> StartupMetrics.phaseReady(StartupMetrics.Phase.FIRST_PAGE));
 
-        loadEmployees();
+        // TODO: SHAHD AMR - Initialize prototype registry
+        runDatabaseTask(null, () -> {
+            EmployeePrototypeRegistry.initializePrototypes();
+            return null;
+        }, ignored -> StartupMetrics.phaseReady(StartupMetrics.Phase.PROTOTYPES));
+
+        startPayrollScheduler();
 
         employeeTable.getSelectionModel().selectedItemProperty().addListener(
                 (observable, oldValue, newValue) -> {
@@ -104,19 +219,341 @@ public class MainController {
     }
 
     /**
-     * Load all employees from database (Ali Hassan Ali)
+     * Run database work on the background pool (Ali Hassan Ali)
+     * While any task is running the loading indicator is shown and the employee,
+     * payroll and adjustment actions are disabled, so a second add/update/delete
+     * or payment cannot start from stale data. onSuccess runs on the FX thread; failures are shown in the status bar.
+     *
+     * @param busyMessage status text while running, or null to leave the status as it is
+     */
+    private <T> void runDatabaseTask(String busyMessage, Callable<T> work, Consumer<T> onSuccess) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        runDatabaseTask(busyMessage, task, onSuccess, () -> { });
+    }
+
+    /**
+     * Run a prepared task (e.g. one that reports progress) the same way.
+     * onFinished runs on the FX thread before onSuccess or the error is shown,
+     * whether the task succeeded or failed.
+     */
+    private <T> void runDatabaseTask(String busyMessage, Task<T> task, Consumer<T> onSuccess, Runnable onFinished) {
+        task.setOnSucceeded(event -> {
+            try {
+                onFinished.run();
+                onSuccess.accept(task.getValue());
+            } finally {
+                databaseTaskFinished();
+            }
+        });
+        task.setOnFailed(event -> {
+            databaseTaskFinished();
+            onFinished.run();
+            Throwable error = task.getException();
+            lblStatus.setText("✗ Error: " + (error != null ? error.getMessage() : "unknown"));
+            lblStatus.setStyle("-fx-text-fill: red;");
+            if (error != null) {
+                error.printStackTrace();
+            }
+        });
+
+        if (runningDatabaseTasks++ == 0) {
+            setEmployeeActionsDisabled(true);
+        }
+        if (busyMessage != null) {
+            lblStatus.setText(busyMessage);
+            lblStatus.setStyle("-fx-text-fill: #8e44ad;");
+        }
+        DATABASE_EXECUTOR.execute(task);
+    }
+
+    private void databaseTaskFinished() {
+        if (--runningDatabaseTasks == 0) {
+            setEmployeeActionsDisabled(false);
+            // The first time this happens the startup loads are done (later calls are ignored)
+            StartupMetrics.interactive();
+        }
+    }
+
+    private void setEmployeeActionsDisabled(boolean disabled) {
+        progressLoading.setVisible(disabled);
+        for (Button button : new Button[]{btnAddEmployee, btnAddWithBuilder, btnUpdateEmployee,
+                btnDeleteEmployee, btnCloneEmployee, btnOnboardCohort, btnSearch,
+                btnProcessPayroll, btnGeneratePayrollReport, btnApplyBonus, btnApplyOvertime,
+                btnBulkAdjustment, btnApplyCertification, btnProcessAllPayroll, btnExportPayrollReport,
+                btnSimulateRaise, btnSalaryStatistics}) {
+            if (button != null) {
+                button.setDisable(disabled);
+            }
+        }
+    }
+
+    /**
+     * Load the first page of employees with the current sort, column filters and search (Ali Hassan Ali)
      */
     private void loadEmployees() {
-        employeeList = FXCollections.observableArrayList(employeeDAO.getAllEmployees());
-        employeeTable.setItems(employeeList);
+        loadEmployeePage(0, page -> { });
+    }
+
+    /**
+     * Fetch one page in the background; the first page replaces the rows, later pages are appended
+     */
+    private void loadEmployeePage(int offset, Consumer<EmployeePage> onLoaded) {
+        int generation = ++pageGeneration;
+        EmployeeQuery query = employeeQuery.copy().page(offset, EmployeeQuery.DEFAULT_PAGE_SIZE);
+        btnLoadMore.setDisable(true);
+
+        runDatabaseTask(null, () -> employeeDAO.getEmployeePageWithCount(query), page -> {
+            if (generation != pageGeneration) {
+                return; // a newer sort, filter or search replaced this request
+            }
+            if (offset == 0) {
+                adjustedEmployees.clear();
+                employeeRows.setAll(page.getEmployees());
+            } else {
+                patchRows(() -> employeeRows.addAll(page.getEmployees()));
+            }
+            // Rows saved here meanwhile can shift the server's pages by a row; the next reload corrects it
+            serverRowsLoaded = offset + page.getEmployees().size();
+            lblRowCount.setText("Showing " + serverRowsLoaded + " of " + page.getTotalCount());
+            btnLoadMore.setDisable(!page.hasMore());
+            loadAdjustedSalaries(page.getEmployees(), () -> { });
+            onLoaded.accept(page);
+        });
+    }
+
+    /**
+     * Fetch the adjustments valid today for the given rows in one background query
+     * and keep each row compiled with them, so the salary column can show the
+     * effective salary on every render without walking the adjustments again
+     */
+    private void loadAdjustedSalaries(List<Employee> rows, Runnable onLoaded) {
+        List<Integer> employeeIds = new ArrayList<>(rows.size());
+        for (Employee row : rows) {
+            employeeIds.add(row.getEmployeeId());
+        }
+
+        runDatabaseTask(null, () -> adjustmentDAO.getActiveAdjustments(employeeIds, LocalDate.now()), adjustments -> {
+            Map<Integer, List<SalaryAdjustment>> byEmployee = new HashMap<>();
+            for (SalaryAdjustment adjustment : adjustments) {
+                byEmployee.computeIfAbsent(adjustment.getEmployeeId(), id -> new ArrayList<>()).add(adjustment);
+            }
+            for (Employee row : rows) {
+                adjustedEmployees.put(row.getEmployeeId(), CompiledEmployee.compile(row)
+                        .addAdjustments(byEmployee.getOrDefault(row.getEmployeeId(), List.of())));
+            }
+            employeeTable.refresh();
+            onLoaded.run();
+        });
+    }
+
+    /**
+     * The row compiled with its adjustments, or null if they are not loaded
+     * (or the row was replaced since, e.g. by an update)
+     */
+    private CompiledEmployee adjustedEmployee(Employee row) {
+        CompiledEmployee adjusted = row != null ? adjustedEmployees.get(row.getEmployeeId()) : null;
+        return adjusted != null && adjusted.getBaseEmployee() == row ? adjusted : null;
+    }
+
+    /**
+     * Salary column cell: the base salary, followed by this month's effective
+     * salary when adjustments apply, with their benefits as the tooltip
+     */
+    private class AdjustedSalaryCell extends TableCell<Employee, Double> {
+        @Override
+        protected void updateItem(Double baseSalary, boolean empty) {
+            super.updateItem(baseSalary, empty);
+            if (empty || baseSalary == null) {
+                setText(null);
+                setTooltip(null);
+                return;
+            }
+            CompiledEmployee adjusted = adjustedEmployee(getTableRow() != null ? getTableRow().getItem() : null);
+            if (adjusted == null || adjusted.getLayerCount() == 0) {
+                setText(baseSalary.toString());
+                setTooltip(null);
+                return;
+            }
+            setText(baseSalary + " → $" + Money.format(adjusted.calculateSalaryCents()));
+            setTooltip(new Tooltip(adjusted.getBenefits()));
+        }
+    }
+
+    /**
+     * Append the next page of employees (Ali Hassan Ali)
+     */
+    @FXML
+    private void handleLoadMore() {
+        loadEmployeePage(serverRowsLoaded, page -> { });
+    }
+
+    // ========== SERVER-SIDE SORTING AND FILTERING (Ali Hassan Ali) ==========
+
+    /**
+     * Sort by column header in the database instead of in memory, so the order
+     * covers every employee and not only the loaded pages. Columns the query
+     * cannot sort by are not sortable.
+     */
+    private void setupServerSideSorting() {
+        colFirstName.setSortable(false);
+        colEmail.setSortable(false);
+        colPhone.setSortable(false);
+
+        employeeTable.setSortPolicy(table -> {
+            if (applySortOrder()) {
+                loadEmployees();
+            }
+            return true; // the rows already arrive in this order
+        });
+    }
+
+    /**
+     * Copy the table's sort order into the query
+     *
+     * @return true if it changed since the last page load
+     */
+    private boolean applySortOrder() {
+        StringBuilder signature = new StringBuilder();
+        employeeQuery.clearSorts();
+        for (TableColumn<Employee, ?> column : employeeTable.getSortOrder()) {
+            EmployeeQuery.SortKey key = sortKeyOf(column);
+            if (key != null) {
+                boolean ascending = column.getSortType() == TableColumn.SortType.ASCENDING;
+                employeeQuery.addSort(key, ascending);
+                signature.append(key).append(ascending ? '+' : '-');
+            }
+        }
+        if (signature.toString().equals(appliedSortOrder)) {
+            return false;
+        }
+        appliedSortOrder = signature.toString();
+        return true;
+    }
+
+    private EmployeeQuery.SortKey sortKeyOf(TableColumn<Employee, ?> column) {
+        if (column == colId) {
+            return EmployeeQuery.SortKey.ID;
+        } else if (column == colLastName) {
+            return EmployeeQuery.SortKey.LAST_NAME;
+        } else if (column == colDepartment) {
+            return EmployeeQuery.SortKey.DEPARTMENT;
+        } else if (column == colType) {
+            return EmployeeQuery.SortKey.TYPE;
+        } else if (column == colSalary) {
+            return EmployeeQuery.SortKey.SALARY;
+        }
+        return null;
+    }
+
+    /**
+     * Put a filter field under the ID, Last Name, Department, Type and Salary
+     * headers. Text filters apply on Enter, the type filter on selection.
+     */
+    private void setupColumnFilters() {
+        filterId = columnFilter(colId, "=");
+        filterLastName = columnFilter(colLastName, "Starts with");
+        filterDepartment = columnFilter(colDepartment, "Starts with");
+        filterSalary = columnFilter(colSalary, "min-max");
+
+        filterType = new ComboBox<>(FXCollections.observableArrayList(
+                "All", "Full-time", "Part-time", "Contractor"
+        ));
+        filterType.setValue("All");
+        filterType.setMaxWidth(Double.MAX_VALUE);
+        filterType.setOnAction(event -> applyColumnFilters());
+        setColumnHeader(colType, filterType);
+    }
+
+    private TextField columnFilter(TableColumn<Employee, ?> column, String prompt) {
+        TextField field = new TextField();
+        field.setPromptText(prompt);
+        field.setOnAction(event -> applyColumnFilters());
+        setColumnHeader(column, field);
+        return field;
+    }
+
+    private void setColumnHeader(TableColumn<Employee, ?> column, Control filter) {
+        // Keep clicks in the filter from sorting or dragging the column
+        filter.addEventHandler(MouseEvent.ANY, MouseEvent::consume);
+        VBox header = new VBox(2, new Label(column.getText()), filter);
+        header.setAlignment(Pos.CENTER);
+        column.setText(null);
+        column.setGraphic(header);
+    }
+
+    /**
+     * Copy the column filters into the query and reload the first page
+     */
+    private void applyColumnFilters() {
+        try {
+            String id = filterId.getText().trim();
+            String type = filterType.getValue();
+            employeeQuery.employeeId(id.isEmpty() ? null : Integer.parseInt(id))
+                    .lastNamePrefix(filterLastName.getText())
+                    .departmentPrefix(filterDepartment.getText())
+                    .employeeType(type == null || type.equals("All") ? null : EmployeeType.parse(type));
+            applySalaryFilter(filterSalary.getText().trim());
+        } catch (NumberFormatException e) {
+            lblStatus.setText("✗ Filters must be numbers for ID and Salary (e.g. 3000-5000).");
+            lblStatus.setStyle("-fx-text-fill: red;");
+            return;
+        }
+        loadEmployees();
+    }
+
+    /**
+     * "min-max", "min-", "-max" or a single exact amount
+     */
+    private void applySalaryFilter(String range) {
+        if (range.isEmpty()) {
+            employeeQuery.salaryRangeCents(null, null);
+            return;
+        }
+        int dash = range.indexOf('-');
+        if (dash < 0) {
+            long exact = Money.ofDouble(Double.parseDouble(range));
+            employeeQuery.salaryRangeCents(exact, exact);
+            return;
+        }
+        String min = range.substring(0, dash).trim();
+        String max = range.substring(dash + 1).trim();
+        employeeQuery.salaryRangeCents(
+                min.isEmpty() ? null : Money.ofDouble(Double.parseDouble(min)),
+                max.isEmpty() ? null : Money.ofDouble(Double.parseDouble(max)));
+    }
+
+    /**
+     * Apply an in-place change to the table rows (Ali Hassan Ali)
+     * Only the patched rows are redrawn and the scroll position is untouched;
+     * the selection is moved back to the same employee if the patch dropped it.
+     */
+    private void patchRows(Runnable patch) {
+        Employee selected = employeeTable.getSelectionModel().getSelectedItem();
+        patch.run();
+        if (selected != null) {
+            int index = employeeRows.indexOf(selected.getEmployeeId());
+            if (index >= 0 && employeeTable.getSelectionModel().getSelectedIndex() != index) {
+                employeeTable.getSelectionModel().select(index);
+            }
+        }
     }
 
     /**
      * Load departments into ComboBox
      */
     private void loadDepartments() {
-        List<Department> departments = departmentDAO.getAllDepartments();
-        cmbDepartment.setItems(FXCollections.observableArrayList(departments));
+        runDatabaseTask(null, departmentDAO::getAllDepartments, departments -> {
+            cmbDepartment.setItems(FXCollections.observableArrayList(departments));
+            StartupMetrics.phaseReady(StartupMetrics.Phase.DEPARTMENTS);
+        });
+    }
+
+    private void setupDepartmentComboBox() {
         cmbDepartment.setCellFactory(param -> new ListCell<Department>() {
             @Override
             protected void updateItem(Department department, boolean empty) {
@@ -124,7 +561,7 @@ public class MainController {
                 if (empty || department == null) {
                     setText(null);
                 } else {
-                    setText(department.getDepartmentName());
+                    setText(department.getDepartmentName() + " (" + department.getEmployeeCount() + ")");
                 }
             }
         });
@@ -144,6 +581,21 @@ public class MainController {
         cmbDepartment.setPromptText("Select Department");
     }
 
+    /**
+     * Keep the loaded departments' members and headcounts in step with a saved
+     * employee; from is null for a new employee and to is null for a deleted one
+     */
+    private void moveDepartmentMember(int employeeId, Department from, Department to) {
+        for (Department department : cmbDepartment.getItems()) {
+            if (from != null && department.getDepartmentId() == from.getDepartmentId()) {
+                department.removeEmployee(employeeId);
+            }
+            if (to != null && department.getDepartmentId() == to.getDepartmentId()) {
+                department.addEmployee(employeeId);
+            }
+        }
+    }
+
     /**
      * Display selected employee details (Ali Hassan Ali)
      */
@@ -167,7 +619,6 @@ public class MainController {
     private void handleAddEmployee() {
         try {
             // Get input values from the form
-            int id = (int)(Math.random() * 10000) + 1;
             String firstName = txtFirstName.getText();
             String lastName = txtLastName.getText();
             String email = txtEmail.getText();
@@ -190,27 +641,30 @@ public class MainController {
                 return;
             }
 
-            if (hireDate == null) {
-                hireDate = LocalDate.now();
-            }
-
-            // Use EmployeeFactory to create the appropriate employee type
-            Employee newEmployee = EmployeeFactory.createEmployee(
-                    type, id, firstName, lastName, email, phone,
-                    hireDate, department, salary, // Pass Department object
-                    20, null  // 20 annual leave days
-            );
-
-            // Insert employee into database
-            if (newEmployee != null && employeeDAO.insertEmployee(newEmployee)) {
-                loadEmployees();
-                clearFields();
-                lblStatus.setText("✓ Employee added using Factory Pattern! Type: " + type);
-                lblStatus.setStyle("-fx-text-fill: green;");
-            } else {
-                lblStatus.setText("✗ Failed to add employee.");
-                lblStatus.setStyle("-fx-text-fill: red;");
-            }
+            LocalDate hired = hireDate != null ? hireDate : LocalDate.now();
+
+            runDatabaseTask("Adding employee...", () -> {
+                // Use EmployeeFactory to create the appropriate employee type
+                Employee newEmployee = EmployeeFactory.createEmployee(
+                        type, IdAllocator.employees().nextId(), firstName, lastName, email, phone,
+                        hired, department, salary, // Pass Department object
+                        20, null  // 20 annual leave days
+                );
+
+                // Insert employee into database
+                return newEmployee != null && employeeDAO.insertEmployee(newEmployee) ? newEmployee : null;
+            }, inserted -> {
+                if (inserted != null) {
+                    clearFields();
+                    employeeRows.add(inserted);
+                    moveDepartmentMember(inserted.getEmployeeId(), null, inserted.getDepartment());
+                    lblStatus.setText("✓ Employee added using Factory Pattern! Type: " + type);
+                    lblStatus.setStyle("-fx-text-fill: green;");
+                } else {
+                    lblStatus.setText("✗ Failed to add employee.");
+                    lblStatus.setStyle("-fx-text-fill: red;");
+                }
+            });
 
         } catch (NumberFormatException e) {
             lblStatus.setText("✗ Error: Invalid number format. Please check ID and Salary.");
@@ -241,64 +695,54 @@ public class MainController {
         );
         dialog.getDialogPane().setExpandableContent(helpLabel);
 
-        dialog.showAndWait().ifPresent(type -> {
-            try {
-                // Check if department already exists (case-insensitive)
-                Optional<Department> existing = departmentDAO.getDepartmentByNameIgnoreCase(type);
-                if (existing.isPresent()) {
-                    // Show error inside the dialog as an alert
-                    Alert errorAlert = new Alert(Alert.AlertType.ERROR);
-                    errorAlert.setTitle("Department Already Exists");
-                    errorAlert.setHeaderText("Cannot create department");
-                    errorAlert.setContentText("A department named '" + type + "' already exists.");
-                    errorAlert.showAndWait();
-                    return; // Stop further processing
-                }
-
-                // Generate random ID
-                int id = (int)(Math.random() * 1000) + 1;
+        dialog.showAndWait().ifPresent(type -> runDatabaseTask("Creating department...", () -> {
+            // Check if department already exists (case-insensitive); null tells the FX thread
+            if (departmentDAO.getDepartmentByNameIgnoreCase(type).isPresent()) {
+                return null;
+            }
 
-                // Create department via factory
-                Department dept = DepartmentFactory.createDepartment(type, id);
+            // Reserve the next department id and create the department via factory
+            Department dept = DepartmentFactory.createDepartment(type, IdAllocator.departments().nextId());
 
-                // Insert department
-                if (departmentDAO.insertDepartment(dept)) {
-                    lblStatus.setText(
-                            "✓ Department created using Factory Pattern!\n" +
-                                    "Name: " + dept.getDepartmentName() + "\n" +
-                                    "Manager: " + dept.getManagerName() + "\n" +
-                                    "Location: " + dept.getLocation()
-                    );
-                    lblStatus.setStyle("-fx-text-fill: green;");
+            // Insert department
+            if (!departmentDAO.insertDepartment(dept)) {
+                throw new IllegalStateException("Failed to create department in database.");
+            }
+            return dept;
+        }, dept -> {
+            if (dept == null) {
+                // Show error inside the dialog as an alert
+                Alert errorAlert = new Alert(Alert.AlertType.ERROR);
+                errorAlert.setTitle("Department Already Exists");
+                errorAlert.setHeaderText("Cannot create department");
+                errorAlert.setContentText("A department named '" + type + "' already exists.");
+                errorAlert.showAndWait();
+                return;
+            }
 
-                    // Reload departments in ComboBox
-                    loadDepartments();
-
-                    // Show success alert
-                    Alert successAlert = new Alert(Alert.AlertType.INFORMATION);
-                    successAlert.setTitle("Department Created");
-                    successAlert.setHeaderText("Department Created Successfully!");
-                    successAlert.setContentText(
-                            "Department: " + dept.getDepartmentName() + "\n" +
-                                    "ID: " + dept.getDepartmentId() + "\n" +
-                                    "Manager: " + dept.getManagerName() + "\n" +
-                                    "Location: " + dept.getLocation()
-                    );
-                    successAlert.showAndWait();
-                } else {
-                    lblStatus.setText("✗ Failed to create department in database.");
-                    lblStatus.setStyle("-fx-text-fill: red;");
-                }
+            lblStatus.setText(
+                    "✓ Department created using Factory Pattern!\n" +
+                            "Name: " + dept.getDepartmentName() + "\n" +
+                            "Manager: " + dept.getManagerName() + "\n" +
+                            "Location: " + dept.getLocation()
+            );
+            lblStatus.setStyle("-fx-text-fill: green;");
 
-            } catch (IllegalArgumentException e) {
-                lblStatus.setText("✗ Error: " + e.getMessage());
-                lblStatus.setStyle("-fx-text-fill: red;");
-            } catch (Exception e) {
-                lblStatus.setText("✗ Error creating department: " + e.getMessage());
-                lblStatus.setStyle("-fx-text-fill: red;");
-                e.printStackTrace();
-            }
-        });
+            // Reload departments in ComboBox
+            loadDepartments();
+
+            // Show success alert
+            Alert successAlert = new Alert(Alert.AlertType.INFORMATION);
+            successAlert.setTitle("Department Created");
+            successAlert.setHeaderText("Department Created Successfully!");
+            successAlert.setContentText(
+                    "Department: " + dept.getDepartmentName() + "\n" +
+                            "ID: " + dept.getDepartmentId() + "\n" +
+                            "Manager: " + dept.getManagerName() + "\n" +
+                            "Location: " + dept.getLocation()
+            );
+            successAlert.showAndWait();
+        }));
     }
 
     // ==================== FATMA MOHAMED - BUILDER PATTERN ====================
@@ -309,8 +753,6 @@ public class MainController {
     @FXML
     private void handleAddEmployeeWithBuilder() {
         try {
-            int id = (int) (Math.random() * 10000) + 1;
-
             // Required fields - ONLY these need validation
             String firstName = txtFirstName.getText();
             String lastName = txtLastName.getText();
@@ -321,7 +763,8 @@ public class MainController {
                 return;
             }
 
-            EmployeeBuilder builder = new EmployeeBuilder(id, firstName, lastName);
+            // The ID is set in the background, from the employee id sequence
+            EmployeeBuilder builder = new EmployeeBuilder(0, firstName, lastName);
 
             // Only set fields if they're actually provided by the user
             if (txtEmail.getText() != null && !txtEmail.getText().isBlank()) {
@@ -351,17 +794,24 @@ public class MainController {
                 builder.employeeType(cmbEmployeeType.getValue());
             }
 
-            Employee newEmployee = builder.build();
-
-            if (employeeDAO.insertEmployee(newEmployee)) {
-                loadEmployees();
+            runDatabaseTask("Adding employee...", () -> {
+                builder.employeeId(IdAllocator.employees().nextId());
+                List<String> problems = builder.validate();
+                if (!problems.isEmpty()) {
+                    throw new IllegalArgumentException(String.join("; ", problems));
+                }
+                Employee newEmployee = builder.build();
+                if (!employeeDAO.insertEmployee(newEmployee)) {
+                    throw new IllegalStateException("Failed to add employee.");
+                }
+                return newEmployee;
+            }, newEmployee -> {
                 clearFields();
+                employeeRows.add(newEmployee);
+                moveDepartmentMember(newEmployee.getEmployeeId(), null, newEmployee.getDepartment());
                 lblStatus.setText("✓ Employee added using Builder Pattern!");
                 lblStatus.setStyle("-fx-text-fill: green;");
-            } else {
-                lblStatus.setText("✗ Failed to add employee.");
-                lblStatus.setStyle("-fx-text-fill: red;");
-            }
+            });
 
         } catch (Exception e) {
             lblStatus.setText("✗ Error: " + e.getMessage());
@@ -417,9 +867,7 @@ public class MainController {
                 return;
             }
 
-            // Step 4: Customize the clone
-            int newId = (int)(Math.random() * 10000) + 1000;
-            clone.setEmployeeId(newId);
+            // Step 4: Customize the clone (the new ID is assigned in the background)
             clone.setFirstName("Copy of " + selected.getFirstName());
             clone.setLastName(selected.getLastName());
             clone.setEmail("copy." + selected.getEmail());
@@ -429,21 +877,29 @@ public class MainController {
             clone.setBaseSalary(selected.getBaseSalary());
 
             // Step 5: Save to database
-            if (employeeDAO.insertEmployee(clone)) {
-                loadEmployees();
-                displayEmployeeDetails(clone);
-
-                lblStatus.setText("✓ Employee cloned from " + type + " prototype! New ID: " + newId);
-                lblStatus.setStyle("-fx-text-fill: green;");
+            String prototypeType = type;
+            runDatabaseTask("Cloning employee...", () -> {
+                clone.setEmployeeId(IdAllocator.employees().nextId());
+                return employeeDAO.insertEmployee(clone);
+            }, inserted -> {
+                if (inserted) {
+                    employeeRows.add(clone);
+                    moveDepartmentMember(clone.getEmployeeId(), null, clone.getDepartment());
+                    displayEmployeeDetails(clone);
+
+                    lblStatus.setText("✓ Employee cloned from " + prototypeType + " prototype! New ID: "
+                            + clone.getEmployeeId());
+                    lblStatus.setStyle("-fx-text-fill: green;");
 
-                System.out.println("✓ Successfully cloned:");
-                System.out.println("  Type: " + type);
-                System.out.println("  Original: " + selected.getFirstName() + " (ID: " + selected.getEmployeeId() + ")");
-                System.out.println("  Clone: " + clone.getFirstName() + " (ID: " + clone.getEmployeeId() + ")");
-            } else {
-                lblStatus.setText("✗ Failed to save cloned employee.");
-                lblStatus.setStyle("-fx-text-fill: red;");
-            }
+                    System.out.println("✓ Successfully cloned:");
+                    System.out.println("  Type: " + prototypeType);
+                    System.out.println("  Original: " + selected.getFirstName() + " (ID: " + selected.getEmployeeId() + ")");
+                    System.out.println("  Clone: " + clone.getFirstName() + " (ID: " + clone.getEmployeeId() + ")");
+                } else {
+                    lblStatus.setText("✗ Failed to save cloned employee.");
+                    lblStatus.setStyle("-fx-text-fill: red;");
+                }
+            });
 
         } catch (Exception e) {
             lblStatus.setText("✗ Error: " + e.getMessage());
@@ -451,6 +907,132 @@ public class MainController {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Store the selected employee's type, department and pay as a reusable prototype (Shahd Amr)
+     */
+    @FXML
+    private void handleSaveAsPrototype() {
+        Employee selected = employeeTable.getSelectionModel().getSelectedItem();
+
+        if (selected == null) {
+            lblStatus.setText("✗ Please select an employee to use as a prototype.");
+            lblStatus.setStyle("-fx-text-fill: red;");
+            return;
+        }
+
+        TextInputDialog dialog = new TextInputDialog(
+                selected.getEmployeeType().toLowerCase().replaceAll("[-\\s]", "") + "-"
+                        + (selected.getDepartmentName() != null ? selected.getDepartmentName().toLowerCase() : "general"));
+        dialog.setTitle("Save as Prototype");
+        dialog.setHeaderText("Save " + selected.getFirstName() + " " + selected.getLastName() + " as a prototype");
+        dialog.setContentText("Prototype name:");
+
+        dialog.showAndWait().map(String::trim).filter(key -> !key.isEmpty()).ifPresent(key -> {
+            // The registry stores its own copy, taken here before the form can change the employee
+            Employee prototype = selected.clone();
+            runDatabaseTask("Saving prototype...", () -> EmployeePrototypeRegistry.addPrototype(key, prototype), saved -> {
+                if (saved) {
+                    lblStatus.setText("✓ Prototype '" + key + "' saved.");
+                    lblStatus.setStyle("-fx-text-fill: green;");
+                } else {
+                    lblStatus.setText("✗ Prototype '" + key + "' is available until restart but could not be saved.");
+                    lblStatus.setStyle("-fx-text-fill: red;");
+                }
+            });
+        });
+    }
+
+    /**
+     * Onboard a cohort: clone one prototype per name into a department and insert them in one batch (Shahd Amr)
+     */
+    @FXML
+    private void handleOnboardCohort() {
+        List<String> keys = new ArrayList<>(List.of(EmployeePrototypeRegistry.getAvailablePrototypes()));
+        if (keys.isEmpty() || cmbDepartment.getItems().isEmpty()) {
+            lblStatus.setText("✗ Prototypes and departments are required to onboard a cohort.");
+            lblStatus.setStyle("-fx-text-fill: red;");
+            return;
+        }
+        keys.sort(null);
+
+        ChoiceDialog<String> prototypeDialog = new ChoiceDialog<>(keys.get(0), keys);
+        prototypeDialog.setTitle("Onboard Cohort");
+        prototypeDialog.setHeaderText("Clone new employees from:");
+        prototypeDialog.setContentText("Prototype:");
+        Optional<String> prototypeKey = prototypeDialog.showAndWait();
+        if (prototypeKey.isEmpty()) {
+            return;
+        }
+
+        List<String> departmentNames = new ArrayList<>();
+        for (Department department : cmbDepartment.getItems()) {
+            departmentNames.add(department.getDepartmentName());
+        }
+        ChoiceDialog<String> departmentDialog = new ChoiceDialog<>(departmentNames.get(0), departmentNames);
+        departmentDialog.setTitle("Onboard Cohort");
+        departmentDialog.setHeaderText("Department for the new employees:");
+        departmentDialog.setContentText("Department:");
+        Optional<String> departmentName = departmentDialog.showAndWait();
+        if (departmentName.isEmpty()) {
+            return;
+        }
+
+        TextArea namesArea = new TextArea();
+        namesArea.setPromptText("One name per line, e.g.\nJane Smith\nDoe,John");
+        Dialog<String> namesDialog = new Dialog<>();
+        namesDialog.setTitle("Onboard Cohort");
+        namesDialog.setHeaderText("New employees (one per line)");
+        namesDialog.getDialogPane().setContent(namesArea);
+        namesDialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        namesDialog.setResultConverter(button -> button == ButtonType.OK ? namesArea.getText() : null);
+        Optional<String> namesInput = namesDialog.showAndWait();
+        if (namesInput.isEmpty() || namesInput.get().isBlank()) {
+            return;
+        }
+
+        List<String> names = new ArrayList<>();
+        for (String name : namesInput.get().split("\\R")) {
+            if (!name.isBlank()) {
+                names.add(name);
+            }
+        }
+
+        // Rows the builder rejected, filled in on the background thread
+        List<String> skipped = new ArrayList<>();
+        runDatabaseTask("Onboarding " + names.size() + " employees...", () -> {
+            // One contiguous id range for the whole cohort, reserved in a single round-trip
+            List<Employee> cohort = EmployeePrototypeRegistry.cloneAndCustomizeAll(prototypeKey.get(),
+                    departmentName.get(), names, IdAllocator.employees().reserve(names.size()), skipped);
+            if (cohort != null && !cohort.isEmpty() && !employeeDAO.insertEmployees(cohort)) {
+                throw new IllegalStateException("Failed to save the new employees; none were added.");
+            }
+            return cohort;
+        }, cohort -> {
+            for (String problem : skipped) {
+                System.err.println("Onboard cohort: " + problem);
+            }
+            if (cohort == null) {
+                lblStatus.setText("✗ Prototype or department not found.");
+                lblStatus.setStyle("-fx-text-fill: red;");
+            } else {
+                employeeRows.addAll(cohort);
+                for (Employee hired : cohort) {
+                    moveDepartmentMember(hired.getEmployeeId(), null, hired.getDepartment());
+                }
+                String message = "Onboarded " + cohort.size() + " employees from the "
+                        + prototypeKey.get() + " prototype into " + departmentName.get() + ".";
+                if (skipped.isEmpty()) {
+                    lblStatus.setText("✓ " + message);
+                    lblStatus.setStyle("-fx-text-fill: green;");
+                } else {
+                    lblStatus.setText("✗ " + message + " Skipped invalid rows: " + String.join("; ", skipped));
+                    lblStatus.setStyle("-fx-text-fill: red;");
+                }
+            }
+        });
+    }
+
     // ==================== ABDELRAHMAN MOHAMED - SINGLETON PATTERN ====================
 
     /**
@@ -467,27 +1049,290 @@ public class MainController {
             return;
         }
 
-        PayrollSystem payroll = PayrollSystem.getInstance();
-        payroll.processPayroll(selected);
+        // The first use of PayrollSystem loads its totals, so it starts on the background thread too
+        Employee employee = selected.clone();
+        runDatabaseTask("Processing payroll...", () -> {
+            PayrollSystem payroll = PayrollSystem.getInstance();
+            return payroll.processPayroll(employee) ? payroll.getTotalPaid(employee.getEmployeeId()) : null;
+        }, total -> {
+            if (total == null) {
+                lblStatus.setText("✗ Payroll already processed this month or could not be saved.");
+                lblStatus.setStyle("-fx-text-fill: red;");
+                return;
+            }
+            lblStatus.setText("✓ Payroll processed! Total Paid: $" + total);
+            lblStatus.setStyle("-fx-text-fill: green;");
+        });
+    }
+
+    /**
+     * Process payroll for all employees or one department in the background (Abdelrahman Mohamed)
+     */
+    @FXML
+    private void handleProcessAllPayroll() {
+        if (payrollRunInProgress) {
+            lblStatus.setText("✗ A payroll run is already in progress.");
+            lblStatus.setStyle("-fx-text-fill: red;");
+            return;
+        }
+
+        final String allDepartments = "All Departments";
+        List<String> choices = new ArrayList<>();
+        Map<String, Integer> departmentIds = new HashMap<>();
+        choices.add(allDepartments);
+        for (Department department : cmbDepartment.getItems()) {
+            choices.add(department.getDepartmentName());
+            departmentIds.put(department.getDepartmentName(), department.getDepartmentId());
+        }
 
-        double total = payroll.getTotalPaid(selected.getEmployeeId());
+        ChoiceDialog<String> dialog = new ChoiceDialog<>(allDepartments, choices);
+        dialog.setTitle("Process All Payroll");
+        dialog.setHeaderText("Run payroll for every employee in:");
+        dialog.setContentText("Scope:");
+
+        dialog.showAndWait().ifPresent(scope -> {
+            // The department is selected in the query, so no other employee is read
+            int departmentId = departmentIds.getOrDefault(scope, EmployeeDAO.ANY_DEPARTMENT);
+
+            Task<PayrollRunSummary> task = new Task<>() {
+                @Override
+                protected PayrollRunSummary call() {
+                    // The first use of PayrollSystem recovers its journal, so the run is created here
+                    PayrollBatchRun run = PayrollSystem.getInstance().newBatchRun(departmentId, null);
+                    activePayrollRun = run;
+                    if (payrollRunCancelRequested) {
+                        run.cancel();
+                    }
+                    run.setProgressListener((processed, skipped, failed) ->
+                            updateMessage("Processing payroll... " + processed + " paid, "
+                                    + skipped + " skipped, " + failed + " failed"));
+                    return run.run();
+                }
+            };
+
+            payrollRunInProgress = true;
+            payrollRunCancelRequested = false;
+            runDatabaseTask("Processing payroll...", task, summary -> {
+                txtPayrollReport.setText(summary.toString());
+                lblStatus.setText((summary.isAborted() ? "✗ " : "✓ ") + summary);
+                lblStatus.setStyle(summary.getFailed() == 0 && !summary.isCancelled() && !summary.isAborted()
+                        ? "-fx-text-fill: green;" : "-fx-text-fill: red;");
+            }, this::finishPayrollRun);
+
+            lblStatus.textProperty().bind(task.messageProperty());
+            progressPayroll.setVisible(true);
+            btnCancelPayrollRun.setDisable(false);
+        });
+    }
+
+    /**
+     * Cancel the running bulk payroll (Abdelrahman Mohamed)
+     */
+    @FXML
+    private void handleCancelPayrollRun() {
+        if (payrollRunInProgress) {
+            // If the run is still being created, its task cancels it as soon as it exists
+            payrollRunCancelRequested = true;
+            PayrollBatchRun run = activePayrollRun;
+            if (run != null) {
+                run.cancel();
+            }
+            btnCancelPayrollRun.setDisable(true);
+        }
+    }
 
-        lblStatus.setText("✓ Payroll processed! Total Paid: $" + total);
-        lblStatus.setStyle("-fx-text-fill: green;");
+    private void finishPayrollRun() {
+        payrollRunInProgress = false;
+        activePayrollRun = null;
+        lblStatus.textProperty().unbind();
+        progressPayroll.setVisible(false);
+        btnCancelPayrollRun.setDisable(true);
     }
 
     /**
      * Generate payroll report (Abdelrahman Mohamed)
+     * Only a bounded summary is shown on screen; use Export for every row
      */
     @FXML
     private void handleGeneratePayrollReport() {
         System.out.println("generating report");
-        PayrollSystem payroll = PayrollSystem.getInstance();
-        String report = payroll.generatePayrollReport();
+        runDatabaseTask("Generating payroll report...",
+                () -> PayrollSystem.getInstance().generatePayrollSummary(REPORT_PREVIEW_ROWS), report -> {
+                    txtPayrollReport.setText(report);
+                    lblStatus.setText("✓ Payroll Report Generated!");
+                    lblStatus.setStyle("-fx-text-fill: green;");
+                });
+    }
 
-        txtPayrollReport.setText(report);
-        lblStatus.setText("✓ Payroll Report Generated!");
-        lblStatus.setStyle("-fx-text-fill: green;");
+    /**
+     * Export the full payroll report as CSV, streamed to disk in the background (Abdelrahman Mohamed)
+     */
+    @FXML
+    private void handleExportPayrollReport() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export Payroll Report");
+        chooser.setInitialFileName("payroll-report-" + LocalDate.now() + ".csv");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
+
+        File file = chooser.showSaveDialog(txtPayrollReport.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+
+        runDatabaseTask("Exporting payroll report...", () -> {
+            try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                PayrollSystem.getInstance().writePayrollCsv(out);
+            }
+            return file;
+        }, exported -> {
+            lblStatus.setText("✓ Payroll report exported to " + exported.getName());
+            lblStatus.setStyle("-fx-text-fill: green;");
+        });
+    }
+
+    /**
+     * Simulate the yearly cost of a raise company-wide, per type and per department (Abdelrahman Mohamed)
+     * Runs on a snapshot of the employee table; no employee or database row is changed
+     */
+    @FXML
+    private void handleSimulateRaise() {
+        TextInputDialog dialog = new TextInputDialog("4");
+        dialog.setTitle("What-if Raise");
+        dialog.setHeaderText("Simulate a salary raise");
+        dialog.setContentText("Raise (%):");
+
+        Optional<String> input = dialog.showAndWait();
+        if (input.isEmpty()) {
+            return;
+        }
+
+        double percent;
+        try {
+            percent = Double.parseDouble(input.get().trim());
+        } catch (NumberFormatException e) {
+            lblStatus.setText("✗ Invalid raise percentage.");
+            lblStatus.setStyle("-fx-text-fill: red;");
+            return;
+        }
+
+        List<SalaryScenario> scenarios = new ArrayList<>();
+        scenarios.add(SalaryScenario.named("All employees").withRaisePercent(percent));
+        for (int type = 0; type < EmployeeSnapshot.TYPE_COUNT; type++) {
+            scenarios.add(SalaryScenario.named(EmployeeSnapshot.typeName(type))
+                    .withType(type).withRaisePercent(percent));
+        }
+        for (Department department : cmbDepartment.getItems()) {
+            scenarios.add(SalaryScenario.named(department.getDepartmentName())
+                    .withDepartment(department.getDepartmentId()).withRaisePercent(percent));
+        }
+
+        runDatabaseTask("Running simulation...", () -> {
+            EmployeeSnapshot snapshot = employeeDAO.loadSnapshot();
+            List<ScenarioResult> results = new CompensationSimulator(snapshot).evaluate(scenarios);
+            return "Raise: " + percent + "%\n" + CompensationSimulator.formatComparison(results);
+        }, comparison -> {
+            txtPayrollReport.setText(comparison);
+            lblStatus.setText("✓ Simulation complete. No salaries were changed.");
+            lblStatus.setStyle("-fx-text-fill: green;");
+        });
+    }
+
+    /**
+     * Compute salary percentiles, pay bands and min/max/mean per department and type (Abdelrahman Mohamed)
+     */
+    @FXML
+    private void handleSalaryStatistics() {
+        SalaryStatisticsService service = new SalaryStatisticsService();
+
+        runDatabaseTask("Computing salary statistics...", () -> {
+            SalaryStatistics statistics = service.compute(employeeDAO.getAllImmutableEmployees());
+            return service.generateReport(statistics);
+        }, report -> {
+            txtStatisticsReport.setText(report);
+            lblStatus.setText("✓ Salary statistics computed!");
+            lblStatus.setStyle("-fx-text-fill: green;");
+        });
+    }
+
+    /**
+     * Start scheduled payroll runs and follow their progress (Abdelrahman Mohamed)
+     * The scheduler is created and started in the background, since creating it
+     * opens the payroll system; it works on its own threads and hands updates
+     * back to the FX thread
+     */
+    private void startPayrollScheduler() {
+        runDatabaseTask(null, () -> {
+            PayrollScheduler scheduler = PayrollScheduler.getInstance();
+            scheduler.setListener(run -> Platform.runLater(() -> {
+                payrollScheduler = scheduler; // a run can report before this task's result arrives
+                refreshScheduleView(run);
+            }));
+            scheduler.start();
+            return scheduler;
+        }, scheduler -> {
+            payrollScheduler = scheduler;
+            refreshScheduleView(null);
+        });
+    }
+
+    private void refreshScheduleView(ScheduledPayrollRun latest) {
+        PayrollScheduler scheduler = payrollScheduler;
+        if (scheduler == null) {
+            return; // still starting; the view is filled in once it has started
+        }
+
+        Map<String, LocalDateTime> nextRuns = scheduler.getNextRuns();
+        StringBuilder view = new StringBuilder("=== UPCOMING RUNS ===\n");
+        for (PayrollSchedule schedule : scheduler.getSchedules()) {
+            view.append(schedule).append(" | Next: ")
+                    .append(nextRuns.get(schedule.getName())).append("\n");
+        }
+        view.append("\n=== RUN HISTORY ===\n");
+        for (ScheduledPayrollRun run : scheduler.getHistory()) {
+            view.append(run).append("\n");
+        }
+        txtScheduleHistory.setText(view.toString());
+
+        if (latest != null) {
+            boolean running = latest.getStatus() == ScheduledPayrollRun.Status.RUNNING;
+            progressScheduled.setVisible(running);
+            lblSchedulerStatus.setText(running
+                    ? latest.getScheduleName() + ": " + latest.getProcessed() + " paid, "
+                            + latest.getSkipped() + " skipped"
+                    : latest.getScheduleName() + ": " + latest.getStatus());
+        }
+    }
+
+    /**
+     * Run one payroll schedule immediately (Abdelrahman Mohamed)
+     */
+    @FXML
+    private void handleRunScheduleNow() {
+        PayrollScheduler scheduler = payrollScheduler;
+        if (scheduler == null) {
+            lblStatus.setText("✗ The payroll scheduler is still starting.");
+            lblStatus.setStyle("-fx-text-fill: red;");
+            return;
+        }
+        List<String> names = new ArrayList<>();
+        for (PayrollSchedule schedule : scheduler.getSchedules()) {
+            names.add(schedule.getName());
+        }
+
+        ChoiceDialog<String> dialog = new ChoiceDialog<>(names.get(0), names);
+        dialog.setTitle("Run Scheduled Payroll");
+        dialog.setHeaderText("Run a payroll schedule now:");
+        dialog.setContentText("Schedule:");
+
+        dialog.showAndWait().ifPresent(name -> {
+            if (scheduler.runNow(name)) {
+                lblStatus.setText("✓ " + name + " started.");
+                lblStatus.setStyle("-fx-text-fill: green;");
+            } else {
+                lblStatus.setText("✗ " + name + " is already running.");
+                lblStatus.setStyle("-fx-text-fill: red;");
+            }
+        });
     }
 
     // ==================== ABDELRAHMAN MAGDY - DECORATOR PATTERN ====================
@@ -506,27 +1351,30 @@ public class MainController {
         }
 
         try {
-            // Apply bonus using Decorator
-            Employee empWithBonus = new BonusDecorator(selected, 1000.0, "Performance Bonus");
-            double newSalary = empWithBonus.calculateSalary();
-            String benefits = empWithBonus.getBenefits();
-
-            // Update the salary in the database
-            EmployeeDAO employeeDAO = new EmployeeDAO();
-            boolean success = employeeDAO.updateSalary(selected.getEmployeeId(), newSalary);
-
-            if (success) {
-                txtPayrollReport.setText("New Salary: $" + newSalary + "\n" + benefits);
-                lblStatus.setText("✓ Bonus applied and salary updated in database!");
-                lblStatus.setStyle("-fx-text-fill: green;");
-
-                loadEmployees();
-                employeeTable.refresh();
+            // Store the bonus as an adjustment for this month's payroll; base_salary is unchanged
+            LocalDate today = LocalDate.now();
+            SalaryAdjustment bonus = new SalaryAdjustment(
+                    selected.getEmployeeId(), SalaryAdjustment.Type.BONUS, 1000.0, "Performance Bonus",
+                    today, YearMonth.from(today).atEndOfMonth());
+
+            // The result says whether this month's salary was already paid, or is null if saving failed
+            runDatabaseTask("Saving bonus...", () -> adjustmentDAO.insertAdjustment(bonus)
+                    ? payrollDAO.isPaidForPeriod(selected.getEmployeeId(), today) : null, alreadyPaid -> {
+                if (alreadyPaid != null) {
+                    // Show the employee with every adjustment of this month, the new bonus included
+                    loadAdjustedSalaries(List.of(selected), () -> {
+                        showAdjustedSalary(selected);
+                        lblStatus.setText(alreadyPaid
+                                ? "✓ Bonus saved; this month is already paid, so it is added to next month's payroll!"
+                                : "✓ Bonus saved for this month's payroll!");
+                        lblStatus.setStyle("-fx-text-fill: green;");
+                    });
 
-            } else {
-                lblStatus.setText("✗ Failed to update salary in database.");
-                lblStatus.setStyle("-fx-text-fill: red;");
-            }
+                } else {
+                    lblStatus.setText("✗ Failed to save bonus in database.");
+                    lblStatus.setStyle("-fx-text-fill: red;");
+                }
+            });
 
         } catch (Exception e) {
             lblStatus.setText("✗ Error: " + e.getMessage());
@@ -549,34 +1397,164 @@ public class MainController {
         }
 
         try {
-            // Apply overtime using Decorator
             int overtimeHours = 10; // example, can be from input
             double overtimeRate = 25.0; // example, can be from input
-            Employee empWithOT = new OvertimeDecorator(selected, overtimeHours, overtimeRate);
 
-            double newSalary = empWithOT.calculateSalary();
-            String benefits = empWithOT.getBenefits();
+            // Store overtime as an adjustment for this month's payroll; base_salary is unchanged
+            LocalDate today = LocalDate.now();
+            SalaryAdjustment overtime = new SalaryAdjustment(
+                    selected.getEmployeeId(), SalaryAdjustment.Type.OVERTIME,
+                    overtimeHours * overtimeRate, overtimeHours + " hours @ $" + overtimeRate + "/hr",
+                    today, YearMonth.from(today).atEndOfMonth());
+
+            // The result says whether this month's salary was already paid, or is null if saving failed
+            runDatabaseTask("Saving overtime...", () -> adjustmentDAO.insertAdjustment(overtime)
+                    ? payrollDAO.isPaidForPeriod(selected.getEmployeeId(), today) : null, alreadyPaid -> {
+                if (alreadyPaid != null) {
+                    // Show the employee with every adjustment of this month, the new overtime included
+                    loadAdjustedSalaries(List.of(selected), () -> {
+                        showAdjustedSalary(selected);
+                        lblStatus.setText(alreadyPaid
+                                ? "✓ Overtime saved; this month is already paid, so it is added to next month's payroll!"
+                                : "✓ Overtime saved for this month's payroll!");
+                        lblStatus.setStyle("-fx-text-fill: green;");
+                    });
+                } else {
+                    lblStatus.setText("✗ Failed to save overtime in database.");
+                    lblStatus.setStyle("-fx-text-fill: red;");
+                }
+            });
 
-            // Update salary in the database
-            EmployeeDAO employeeDAO = new EmployeeDAO();
-            boolean success = employeeDAO.updateSalary(selected.getEmployeeId(), newSalary);
+        } catch(Exception e) {
+            lblStatus.setText("✗ Error: " + e.getMessage());
+            lblStatus.setStyle("-fx-text-fill: red;");
+        }
+    }
 
-            if (success) {
-                txtPayrollReport.setText("New Salary: $" + newSalary + "\n" + benefits);
-                lblStatus.setText("✓ Overtime applied and salary updated in database!");
-                lblStatus.setStyle("-fx-text-fill: green;");
+    /**
+     * Apply a bonus, overtime or certification to a whole department or employee type at once (Abdelrahman Magdy)
+     * The amount can be fixed ("250") or a percentage of base salary ("5%")
+     */
+    @FXML
+    private void handleBulkAdjustment() {
+        final String allDepartments = "All Departments";
+        List<String> departmentChoices = new ArrayList<>();
+        departmentChoices.add(allDepartments);
+        for (Department department : cmbDepartment.getItems()) {
+            departmentChoices.add(department.getDepartmentName());
+        }
+        ChoiceDialog<String> departmentDialog = new ChoiceDialog<>(allDepartments, departmentChoices);
+        departmentDialog.setTitle("Bulk Adjustment");
+        departmentDialog.setHeaderText("Apply an adjustment to every employee in:");
+        departmentDialog.setContentText("Department:");
+        Optional<String> departmentChoice = departmentDialog.showAndWait();
+        if (departmentChoice.isEmpty()) {
+            return;
+        }
 
-                loadEmployees();
-                employeeTable.refresh();
+        final String allTypes = "All Types";
+        ChoiceDialog<String> typeDialog = new ChoiceDialog<>(allTypes,
+                allTypes, "Full-time", "Part-time", "Contractor");
+        typeDialog.setTitle("Bulk Adjustment");
+        typeDialog.setHeaderText("Restrict to one employee type?");
+        typeDialog.setContentText("Employee type:");
+        Optional<String> typeChoice = typeDialog.showAndWait();
+        if (typeChoice.isEmpty()) {
+            return;
+        }
+
+        ChoiceDialog<SalaryAdjustment.Type> kindDialog = new ChoiceDialog<>(SalaryAdjustment.Type.BONUS,
+                SalaryAdjustment.Type.values());
+        kindDialog.setTitle("Bulk Adjustment");
+        kindDialog.setHeaderText("Kind of adjustment");
+        kindDialog.setContentText("Adjustment:");
+        Optional<SalaryAdjustment.Type> kindChoice = kindDialog.showAndWait();
+        if (kindChoice.isEmpty()) {
+            return;
+        }
+        SalaryAdjustment.Type kind = kindChoice.get();
+
+        TextInputDialog amountDialog = new TextInputDialog("5%");
+        amountDialog.setTitle("Bulk Adjustment");
+        amountDialog.setHeaderText("Fixed amount (e.g. 250) or percentage of base salary (e.g. 5%)");
+        amountDialog.setContentText("Amount:");
+        Optional<String> amountInput = amountDialog.showAndWait();
+        if (amountInput.isEmpty()) {
+            return;
+        }
+
+        BulkAdjustment adjustment;
+        try {
+            String amount = amountInput.get().trim();
+            String description = "Bulk " + kind.name().toLowerCase();
+            if (amount.endsWith("%")) {
+                double percent = Double.parseDouble(amount.substring(0, amount.length() - 1).trim());
+                adjustment = BulkAdjustment.percentage(kind, percent, description + " " + amount);
             } else {
-                lblStatus.setText("✗ Failed to update salary in database.");
-                lblStatus.setStyle("-fx-text-fill: red;");
+                adjustment = BulkAdjustment.fixed(kind, Double.parseDouble(amount), description);
             }
+        } catch (NumberFormatException e) {
+            lblStatus.setText("✗ Invalid amount.");
+            lblStatus.setStyle("-fx-text-fill: red;");
+            return;
+        }
 
-        } catch(Exception e) {
-            lblStatus.setText("✗ Error: " + e.getMessage());
+        if (!allDepartments.equals(departmentChoice.get())) {
+            for (Department department : cmbDepartment.getItems()) {
+                if (department.getDepartmentName().equals(departmentChoice.get())) {
+                    adjustment = adjustment.withDepartment(department.getDepartmentId());
+                }
+            }
+        }
+        if (!allTypes.equals(typeChoice.get())) {
+            adjustment = adjustment.withEmployeeType(EmployeeType.parse(typeChoice.get()));
+        }
+
+        // Preview with the same query that will insert, then ask before writing anything
+        BulkAdjustment cohortAdjustment = adjustment;
+        String scope = departmentChoice.get() + ", " + typeChoice.get();
+        runDatabaseTask("Previewing bulk adjustment...", () -> adjustmentDAO.previewBulkAdjustment(cohortAdjustment),
+                preview -> confirmBulkAdjustment(cohortAdjustment, scope, preview));
+    }
+
+    /**
+     * Show the preview of a bulk adjustment and apply it once confirmed (Abdelrahman Magdy)
+     */
+    private void confirmBulkAdjustment(BulkAdjustment adjustment, String scope, BulkAdjustmentSummary preview) {
+        if (preview == null) {
+            lblStatus.setText("✗ Failed to preview bulk adjustment.");
             lblStatus.setStyle("-fx-text-fill: red;");
+            return;
         }
+        if (preview.getEmployeeCount() == 0) {
+            lblStatus.setText("✗ No employees match this selection.");
+            lblStatus.setStyle("-fx-text-fill: red;");
+            return;
+        }
+
+        Alert confirm = new Alert(Alert.AlertType.CONFIRMATION);
+        confirm.setTitle("Confirm Bulk Adjustment");
+        confirm.setHeaderText(adjustment.toString());
+        confirm.setContentText(scope + "\n" + preview
+                + (adjustment.getType() == SalaryAdjustment.Type.CERTIFICATION
+                        ? "\n(Employees already certified are skipped)" : ""));
+        Optional<ButtonType> answer = confirm.showAndWait();
+        if (answer.isEmpty() || answer.get() != ButtonType.OK) {
+            lblStatus.setText("✗ Bulk adjustment cancelled; nothing was changed.");
+            lblStatus.setStyle("-fx-text-fill: red;");
+            return;
+        }
+
+        runDatabaseTask("Applying bulk adjustment...", () -> adjustmentDAO.applyBulkAdjustment(adjustment), result -> {
+            if (result != null) {
+                txtPayrollReport.setText(adjustment + "\n" + scope + "\n" + result);
+                lblStatus.setText("✓ " + result);
+                lblStatus.setStyle("-fx-text-fill: green;");
+            } else {
+                lblStatus.setText("✗ Bulk adjustment failed; nothing was changed.");
+                lblStatus.setStyle("-fx-text-fill: red;");
+            }
+        });
     }
 
 
@@ -596,29 +1574,39 @@ public class MainController {
             return;
         }
 
-        // CHECK If employee already has certification
-        if (certifiedEmployees.contains(selected.getEmployeeId())) {
-            lblStatus.setText("✗ Employee already has AWS Certification!");
-            lblStatus.setStyle("-fx-text-fill: red;");
-            return;
-        }
+        // Checking, logging and saving all run in the background on a copy of the row;
+        // the result is the error to show, or null once the certification is saved
+        Employee employee = selected.clone();
+        runDatabaseTask("Applying certification...", () -> {
+            // CHECK If employee already has certification
+            if (adjustmentDAO.hasActiveAdjustment(employee.getEmployeeId(),
+                    SalaryAdjustment.Type.CERTIFICATION, LocalDate.now())) {
+                return "✗ Employee already has AWS Certification!";
+            }
 
-        try {
             // Log original state
-            System.out.println("Original Employee: " + selected.getFirstName() + " " + selected.getLastName());
-            double originalSalary = selected.calculateSalary();
+            System.out.println("Original Employee: " + employee.getFirstName() + " " + employee.getLastName());
+            double originalSalary = employee.calculateSalary();
             System.out.println("Original Salary: $" + originalSalary);
-            System.out.println("Original Benefits: " + selected.getBenefits());
+            System.out.println("Original Benefits: " + employee.getBenefits());
 
             // Get payroll system instance
             PayrollSystem payroll = PayrollSystem.getInstance();
 
             // Get previous total paid
-            double previousTotalPaid = payroll.getTotalPaid(selected.getEmployeeId());
+            double previousTotalPaid = payroll.getTotalPaid(employee.getEmployeeId());
             System.out.println("Previous Total Paid: $" + previousTotalPaid);
 
-            // Apply CertificationDecorator
-            Employee empWithCert = new CertificationDecorator(selected, "AWS Certified", 500.0);
+            // The allowance is stored as an open-ended adjustment, so it survives restarts
+            if (!adjustmentDAO.insertAdjustment(new SalaryAdjustment(
+                    employee.getEmployeeId(), SalaryAdjustment.Type.CERTIFICATION, 500.0, "AWS Certified",
+                    LocalDate.now(), null))) {
+                return "✗ Failed to save certification in database.";
+            }
+
+            // Decorate with every adjustment valid today, the new certification included
+            CompiledEmployee empWithCert = CompiledEmployee.compile(employee)
+                    .addAdjustments(adjustmentDAO.getActiveAdjustments(employee.getEmployeeId(), LocalDate.now()));
             double newSalary = empWithCert.calculateSalary();
             String benefits = empWithCert.getBenefits();
 
@@ -627,22 +1615,31 @@ public class MainController {
             System.out.println("New Salary: $" + newSalary);
             System.out.println("Salary Increase: $" + (newSalary - originalSalary));
             System.out.println("New Benefits: " + benefits);
-
-            certifiedEmployees.add(selected.getEmployeeId());
             System.out.println("✓ Employee marked as certified");
+            return null;
+        }, error -> {
+            if (error != null) {
+                lblStatus.setText(error);
+                lblStatus.setStyle("-fx-text-fill: red;");
+                return;
+            }
+            // The allowance is added once a month by the next payroll run
+            loadAdjustedSalaries(List.of(selected), () -> {
+                showAdjustedSalary(selected);
+                lblStatus.setText("✓ Certification applied; the allowance is paid with each monthly payroll!");
+                lblStatus.setStyle("-fx-text-fill: green;");
+            });
+        });
+    }
 
-            payroll.processPayroll(empWithCert);
-
-
-            lblStatus.setText("✓ Certification applied & Payroll updated!");
-            lblStatus.setStyle("-fx-text-fill: green;");
-
-        } catch (Exception e) {
-            System.err.println("ERROR: " + e.getMessage());
-            e.printStackTrace();
-
-            lblStatus.setText("✗ Error: " + e.getMessage());
-            lblStatus.setStyle("-fx-text-fill: red;");
+    /**
+     * Show an employee's effective salary and benefits in the payroll report area
+     */
+    private void showAdjustedSalary(Employee row) {
+        CompiledEmployee adjusted = adjustedEmployee(row);
+        if (adjusted != null) {
+            txtPayrollReport.setText("New Salary: $" + Money.format(adjusted.calculateSalaryCents())
+                    + "\n" + adjusted.getBenefits());
         }
     }
 
@@ -662,22 +1659,28 @@ public class MainController {
         }
 
         try {
-            selected.setFirstName(txtFirstName.getText());
-            selected.setLastName(txtLastName.getText());
-            selected.setEmail(txtEmail.getText());
-            selected.setPhoneNumber(txtPhone.getText());
-            selected.setDepartment(cmbDepartment.getValue()); // Updated to use ComboBox
-            selected.setBaseSalary(Double.parseDouble(txtSalary.getText()));
-
-            if (employeeDAO.updateEmployee(selected)) {
-                loadEmployees();
-                employeeTable.refresh();
-                lblStatus.setText("✓ Employee updated!");
-                lblStatus.setStyle("-fx-text-fill: green;");
-            } else {
-                lblStatus.setText("✗ Update failed.");
-                lblStatus.setStyle("-fx-text-fill: red;");
-            }
+            // Edit a copy: the row shown in the table only changes once the save succeeds,
+            // and the background thread never reads an object the table is showing
+            Employee changes = selected.clone();
+            changes.setFirstName(txtFirstName.getText());
+            changes.setLastName(txtLastName.getText());
+            changes.setEmail(txtEmail.getText());
+            changes.setPhoneNumber(txtPhone.getText());
+            changes.setDepartment(cmbDepartment.getValue()); // Updated to use ComboBox
+            changes.setBaseSalary(Double.parseDouble(txtSalary.getText()));
+
+            runDatabaseTask("Updating employee...", () -> employeeDAO.updateEmployee(changes), updated -> {
+                if (updated) {
+                    patchRows(() -> employeeRows.replace(changes));
+                    moveDepartmentMember(changes.getEmployeeId(), selected.getDepartment(), changes.getDepartment());
+                    loadAdjustedSalaries(List.of(changes), () -> { });
+                    lblStatus.setText("✓ Employee updated!");
+                    lblStatus.setStyle("-fx-text-fill: green;");
+                } else {
+                    lblStatus.setText("✗ Update failed.");
+                    lblStatus.setStyle("-fx-text-fill: red;");
+                }
+            });
 
         } catch (Exception e) {
             lblStatus.setText("✗ Error: " + e.getMessage());
@@ -703,15 +1706,20 @@ public class MainController {
         alert.setContentText("Delete " + selected.getFirstName() + " " + selected.getLastName() + "?");
 
         if (alert.showAndWait().get() == ButtonType.OK) {
-            if (employeeDAO.deleteEmployee(selected.getEmployeeId())) {
-                loadEmployees();
-                clearFields();
-                lblStatus.setText("✓ Employee deleted!");
-                lblStatus.setStyle("-fx-text-fill: green;");
-            } else {
-                lblStatus.setText("✗ Delete failed.");
-                lblStatus.setStyle("-fx-text-fill: red;");
-            }
+            int employeeId = selected.getEmployeeId();
+            Department department = selected.getDepartment();
+            runDatabaseTask("Deleting employee...", () -> employeeDAO.deleteEmployee(employeeId), deleted -> {
+                if (deleted) {
+                    clearFields();
+                    employeeRows.remove(employeeId);
+                    moveDepartmentMember(employeeId, department, null);
+                    lblStatus.setText("✓ Employee deleted!");
+                    lblStatus.setStyle("-fx-text-fill: green;");
+                } else {
+                    lblStatus.setText("✗ Delete failed.");
+                    lblStatus.setStyle("-fx-text-fill: red;");
+                }
+            });
         }
     }
 
@@ -721,14 +1729,17 @@ public class MainController {
     @FXML
     private void handleSearch() {
         String keyword = txtSearch.getText();
+        employeeQuery.keyword(keyword);
 
         if (keyword.isEmpty()) {
             loadEmployees();
         } else {
-            employeeList = FXCollections.observableArrayList(
-                    employeeDAO.searchEmployees(keyword)
-            );
-            employeeTable.setItems(employeeList);
+            lblStatus.setText("Searching...");
+            lblStatus.setStyle("-fx-text-fill: #8e44ad;");
+            loadEmployeePage(0, page -> {
+                lblStatus.setText("✓ " + page.getTotalCount() + " employees found.");
+                lblStatus.setStyle("-fx-text-fill: green;");
+            });
         }
     }
 
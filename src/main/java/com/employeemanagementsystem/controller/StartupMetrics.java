@@ -0,0 +1,134 @@
+package com.employeemanagementsystem.controller;
+
+import com.employeemanagementsystem.payroll.PayrollJournal;
+import javafx.animation.AnimationTimer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Startup timings, all in milliseconds since the process started:
+ * - first frame: the first pulse after the main window is shown
+ * - each warmup phase: when its data was ready (schema check, department
+ *   directory, first employee page, prototypes)
+ * - interactive: when the warmup finished and the employee actions were enabled
+ *
+ * Every startup is printed and appended as one line to
+ * ~/.employee-management-system/startup-metrics.csv, so startup regressions
+ * show up when comparing runs.
+ */
+public final class StartupMetrics {
+
+    public enum Phase {
+        SCHEMA, DEPARTMENTS, FIRST_PAGE, PROTOTYPES
+    }
+
+    private static final String FILE_NAME = "startup-metrics.csv";
+    private static final String HEADER = "started_at,first_frame_ms,interactive_ms,"
+            + "schema_ms,departments_ms,first_page_ms,prototypes_ms";
+
+    private static final long PROCESS_START_MILLIS = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli)
+            .orElse(System.currentTimeMillis());
+
+    // -1 = not reached yet
+    private static long firstFrameMillis = -1;
+    private static long interactiveMillis = -1;
+    private static final long[] phaseMillis = {-1, -1, -1, -1};
+
+    private StartupMetrics() {
+    }
+
+    /**
+     * Record the first frame once the stage has been shown; call from the FX thread
+     */
+    public static void watchFirstFrame() {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                synchronized (StartupMetrics.class) {
+                    if (firstFrameMillis < 0) {
+                        firstFrameMillis = sinceStart();
+                    }
+                }
+            }
+        }.start();
+    }
+
+    /**
+     * Record that a warmup phase's data is ready; later calls for the same phase are ignored
+     */
+    public static synchronized void phaseReady(Phase phase) {
+        if (phaseMillis[phase.ordinal()] < 0) {
+            phaseMillis[phase.ordinal()] = sinceStart();
+        }
+    }
+
+    /**
+     * Record that startup finished and report it; only the first call counts
+     */
+    public static void interactive() {
+        String line;
+        synchronized (StartupMetrics.class) {
+            if (interactiveMillis >= 0) {
+                return;
+            }
+            interactiveMillis = sinceStart();
+            System.out.println("Startup: first frame " + format(firstFrameMillis)
+                    + ", interactive " + format(interactiveMillis)
+                    + " (schema " + format(phaseMillis[Phase.SCHEMA.ordinal()])
+                    + ", departments " + format(phaseMillis[Phase.DEPARTMENTS.ordinal()])
+                    + ", first page " + format(phaseMillis[Phase.FIRST_PAGE.ordinal()])
+                    + ", prototypes " + format(phaseMillis[Phase.PROTOTYPES.ordinal()]) + ")");
+
+            StringBuilder csv = new StringBuilder(LocalDateTime.now().withNano(0).toString())
+                    .append(',').append(firstFrameMillis)
+                    .append(',').append(interactiveMillis);
+            for (long millis : phaseMillis) {
+                csv.append(',').append(millis);
+            }
+            line = csv.append(System.lineSeparator()).toString();
+        }
+
+        // Keep file I/O off the FX thread
+        Thread writer = new Thread(() -> append(line), "startup-metrics");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public static synchronized long getFirstFrameMillis() {
+        return firstFrameMillis;
+    }
+
+    public static synchronized long getInteractiveMillis() {
+        return interactiveMillis;
+    }
+
+    private static void append(String line) {
+        Path file = PayrollJournal.defaultDirectory().resolve(FILE_NAME);
+        try {
+            Files.createDirectories(file.getParent());
+            if (!Files.exists(file)) {
+                line = HEADER + System.lineSeparator() + line;
+            }
+            Files.writeString(file, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Error writing startup metrics: " + e.getMessage());
+        }
+    }
+
+    private static long sinceStart() {
+        return System.currentTimeMillis() - PROCESS_START_MILLIS;
+    }
+
+    private static String format(long millis) {
+        return millis < 0 ? "n/a" : millis + " ms";
+    }
+}
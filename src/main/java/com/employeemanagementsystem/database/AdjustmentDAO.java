@@ -0,0 +1,337 @@
+package com.employeemanagementsystem.database;
+
+import com.employeemanagementsystem.model.BulkAdjustment;
+import com.employeemanagementsystem.model.BulkAdjustmentSummary;
+import com.employeemanagementsystem.model.Money;
+import com.employeemanagementsystem.model.PayrollRecord;
+import com.employeemanagementsystem.model.SalaryAdjustment;
+import com.employeemanagementsystem.patterns.singleton.DatabaseConnection;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Data Access Object for salary_adjustments
+ * Adjustments are kept separate from base_salary, so a bonus or allowance can
+ * expire without touching the employee, and payroll pays each one when it is due
+ */
+public class AdjustmentDAO {
+
+    // Adjustments valid on a date; both parameters are the date
+    private static final String ACTIVE_ON_DATE =
+            "valid_from <= ? AND (valid_to IS NULL OR valid_to >= ?)";
+
+    public boolean insertAdjustment(SalaryAdjustment adjustment) {
+        String sql = "INSERT INTO salary_adjustments " +
+                "(employee_id, adjustment_type, amount, description, valid_from, valid_to) " +
+                "VALUES (?, ?, ?, ?, ?, ?)";
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            pstmt.setInt(1, adjustment.getEmployeeId());
+            pstmt.setString(2, adjustment.getType().name());
+            pstmt.setBigDecimal(3, Money.toBigDecimal(adjustment.getAmountCents()));
+            pstmt.setString(4, adjustment.getDescription());
+            pstmt.setDate(5, Date.valueOf(adjustment.getValidFrom()));
+            if (adjustment.getValidTo() != null) {
+                pstmt.setDate(6, Date.valueOf(adjustment.getValidTo()));
+            } else {
+                pstmt.setNull(6, Types.DATE);
+            }
+
+            int rowsAffected = pstmt.executeUpdate();
+            try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    adjustment.setAdjustmentId(keys.getInt(1));
+                }
+            }
+            return rowsAffected > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error inserting salary adjustment: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Adjustments of one employee that apply on the given date
+     */
+    public List<SalaryAdjustment> getActiveAdjustments(int employeeId, LocalDate date) {
+        return getActiveAdjustments(List.of(employeeId), date);
+    }
+
+    /**
+     * Adjustments of the given employees that apply on the given date, in one
+     * query, ordered by employee and then by the order they were granted
+     */
+    public List<SalaryAdjustment> getActiveAdjustments(List<Integer> employeeIds, LocalDate date) {
+        List<SalaryAdjustment> adjustments = new ArrayList<>();
+        if (employeeIds.isEmpty()) {
+            return adjustments;
+        }
+        String sql = "SELECT * FROM salary_adjustments WHERE employee_id IN (" +
+                String.join(", ", Collections.nCopies(employeeIds.size(), "?")) + ") AND " + ACTIVE_ON_DATE +
+                " ORDER BY employee_id, valid_from, adjustment_id";
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            for (int employeeId : employeeIds) {
+                pstmt.setInt(index++, employeeId);
+            }
+            pstmt.setDate(index++, Date.valueOf(date));
+            pstmt.setDate(index, Date.valueOf(date));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    adjustments.add(mapAdjustment(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error fetching salary adjustments: " + e.getMessage());
+        }
+
+        return adjustments;
+    }
+
+    /**
+     * Check whether an employee has an adjustment of this type on the given date
+     */
+    public boolean hasActiveAdjustment(int employeeId, SalaryAdjustment.Type type, LocalDate date) {
+        String sql = "SELECT 1 FROM salary_adjustments WHERE employee_id = ? AND adjustment_type = ? AND " +
+                ACTIVE_ON_DATE + " LIMIT 1";
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, employeeId);
+            pstmt.setString(2, type.name());
+            pstmt.setDate(3, Date.valueOf(date));
+            pstmt.setDate(4, Date.valueOf(date));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error checking salary adjustments: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Adjustments of the given employees that are due on the payment date and
+     * not yet paid in its pay period, locked on the caller's transaction until
+     * markPaid records that they were paid.
+     *
+     * Due means valid on the payment date, or started by then but never paid.
+     * The second case covers a bonus or overtime recorded after its month's
+     * salary was already stored: it expires before the next payment date, so
+     * it is carried into the next payment instead of being lost.
+     */
+    List<SalaryAdjustment> lockUnpaid(Connection conn, List<Integer> employeeIds, LocalDate paymentDate)
+            throws SQLException {
+        List<SalaryAdjustment> adjustments = new ArrayList<>();
+        if (employeeIds.isEmpty()) {
+            return adjustments;
+        }
+        String sql = "SELECT * FROM salary_adjustments WHERE employee_id IN (" +
+                String.join(", ", Collections.nCopies(employeeIds.size(), "?")) + ") AND valid_from <= ? " +
+                "AND (valid_to IS NULL OR valid_to >= ? OR paid_period IS NULL) " +
+                "AND (paid_period IS NULL OR paid_period < ?) FOR UPDATE";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            for (int employeeId : employeeIds) {
+                pstmt.setInt(index++, employeeId);
+            }
+            pstmt.setDate(index++, Date.valueOf(paymentDate));
+            pstmt.setDate(index++, Date.valueOf(paymentDate));
+            pstmt.setDate(index, Date.valueOf(PayrollRecord.payPeriodOf(paymentDate)));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    adjustments.add(mapAdjustment(rs));
+                }
+            }
+        }
+        return adjustments;
+    }
+
+    /**
+     * Record on the caller's transaction that the adjustments were paid in the pay period
+     */
+    void markPaid(Connection conn, List<SalaryAdjustment> adjustments, LocalDate payPeriod) throws SQLException {
+        if (adjustments.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "UPDATE salary_adjustments SET paid_period = ? WHERE adjustment_id = ?")) {
+            for (SalaryAdjustment adjustment : adjustments) {
+                pstmt.setDate(1, Date.valueOf(payPeriod));
+                pstmt.setInt(2, adjustment.getAdjustmentId());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * Count the employees a bulk adjustment would cover and the total it would add,
+     * without storing anything. Uses the same cohort query as applyBulkAdjustment.
+     *
+     * @return the preview, or null if the query failed
+     */
+    public BulkAdjustmentSummary previewBulkAdjustment(BulkAdjustment adjustment) {
+        try (Connection conn = DatabaseConnection.getInstance().getConnection()) {
+            return summarizeCohort(conn, adjustment, false);
+        } catch (SQLException e) {
+            System.err.println("Error previewing bulk adjustment: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Store the adjustment for every employee in the cohort with a single
+     * INSERT ... SELECT, in one transaction. The cohort rows are share-locked
+     * while it is summarized, so the summary matches exactly what was inserted.
+     * For certifications, employees that already hold one are skipped.
+     *
+     * @return what was inserted, or null if the transaction was rolled back
+     */
+    public BulkAdjustmentSummary applyBulkAdjustment(BulkAdjustment adjustment) {
+        String sql = "INSERT INTO salary_adjustments " +
+                "(employee_id, adjustment_type, amount, description, valid_from, valid_to) " +
+                "SELECT e.employee_id, ?, " + amountExpression(adjustment) + ", ?, ?, ? " +
+                cohortClause(adjustment);
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                BulkAdjustmentSummary summary = summarizeCohort(conn, adjustment, true);
+
+                int index = 1;
+                pstmt.setString(index++, adjustment.getType().name());
+                index = bindAmount(pstmt, index, adjustment);
+                pstmt.setString(index++, adjustment.getDescription());
+                pstmt.setDate(index++, Date.valueOf(adjustment.getValidFrom()));
+                if (adjustment.getValidTo() != null) {
+                    pstmt.setDate(index++, Date.valueOf(adjustment.getValidTo()));
+                } else {
+                    pstmt.setNull(index++, Types.DATE);
+                }
+                bindCohort(pstmt, index, adjustment);
+
+                int inserted = pstmt.executeUpdate();
+                if (inserted != summary.getEmployeeCount()) {
+                    throw new SQLException("cohort changed during the update (expected "
+                            + summary.getEmployeeCount() + " rows, inserted " + inserted + ")");
+                }
+                conn.commit();
+                return new BulkAdjustmentSummary(inserted, summary.getTotalCents(), true);
+
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error applying bulk adjustment: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private BulkAdjustmentSummary summarizeCohort(Connection conn, BulkAdjustment adjustment, boolean lock)
+            throws SQLException {
+        String sql = "SELECT COUNT(*) AS employees, COALESCE(SUM(" + amountExpression(adjustment) + "), 0) AS total " +
+                cohortClause(adjustment) + (lock ? " LOCK IN SHARE MODE" : "");
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = bindAmount(pstmt, 1, adjustment);
+            bindCohort(pstmt, index, adjustment);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return new BulkAdjustmentSummary(rs.getInt("employees"),
+                        Money.fromBigDecimal(rs.getBigDecimal("total")), false);
+            }
+        }
+    }
+
+    /**
+     * Per-employee amount: the fixed amount, or the percentage of base salary
+     * rounded to the cent (half away from zero, like Money.percent)
+     */
+    private static String amountExpression(BulkAdjustment adjustment) {
+        return adjustment.isPercentage() ? "ROUND(e.base_salary * ? / 10000, 2)" : "?";
+    }
+
+    private static int bindAmount(PreparedStatement pstmt, int index, BulkAdjustment adjustment)
+            throws SQLException {
+        if (adjustment.isPercentage()) {
+            pstmt.setLong(index, adjustment.getBasisPoints());
+        } else {
+            pstmt.setBigDecimal(index, Money.toBigDecimal(adjustment.getAmountCents()));
+        }
+        return index + 1;
+    }
+
+    /**
+     * FROM and WHERE selecting the cohort; only the filters that are set are included
+     */
+    private static String cohortClause(BulkAdjustment adjustment) {
+        StringBuilder sql = new StringBuilder("FROM employees e WHERE 1 = 1");
+        if (adjustment.getDepartmentId() != BulkAdjustment.ANY_DEPARTMENT) {
+            sql.append(" AND e.department_id = ?");
+        }
+        if (adjustment.getEmployeeType() != null) {
+            sql.append(" AND e.employee_type = ?");
+        }
+        if (adjustment.getHiredOnOrBefore() != null) {
+            sql.append(" AND e.hire_date <= ?");
+        }
+        if (adjustment.getType() == SalaryAdjustment.Type.CERTIFICATION) {
+            sql.append(" AND NOT EXISTS (SELECT 1 FROM salary_adjustments a " +
+                    "WHERE a.employee_id = e.employee_id AND a.adjustment_type = ? AND " +
+                    "a.valid_from <= ? AND (a.valid_to IS NULL OR a.valid_to >= ?))");
+        }
+        return sql.toString();
+    }
+
+    private static void bindCohort(PreparedStatement pstmt, int index, BulkAdjustment adjustment)
+            throws SQLException {
+        if (adjustment.getDepartmentId() != BulkAdjustment.ANY_DEPARTMENT) {
+            pstmt.setInt(index++, adjustment.getDepartmentId());
+        }
+        if (adjustment.getEmployeeType() != null) {
+            pstmt.setInt(index++, adjustment.getEmployeeType().getCode());
+        }
+        if (adjustment.getHiredOnOrBefore() != null) {
+            pstmt.setDate(index++, Date.valueOf(adjustment.getHiredOnOrBefore()));
+        }
+        if (adjustment.getType() == SalaryAdjustment.Type.CERTIFICATION) {
+            pstmt.setString(index++, SalaryAdjustment.Type.CERTIFICATION.name());
+            pstmt.setDate(index++, Date.valueOf(adjustment.getValidFrom()));
+            pstmt.setDate(index, Date.valueOf(adjustment.getValidFrom()));
+        }
+    }
+
+    private static SalaryAdjustment mapAdjustment(ResultSet rs) throws SQLException {
+        Date validTo = rs.getDate("valid_to");
+        return new SalaryAdjustment(
+                rs.getInt("adjustment_id"),
+                rs.getInt("employee_id"),
+                SalaryAdjustment.Type.valueOf(rs.getString("adjustment_type")),
+                Money.fromBigDecimal(rs.getBigDecimal("amount")),
+                rs.getString("description"),
+                rs.getDate("valid_from").toLocalDate(),
+                validTo != null ? validTo.toLocalDate() : null
+        );
+    }
+}
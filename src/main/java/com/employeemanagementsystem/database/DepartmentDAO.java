@@ -4,7 +4,10 @@ import com.employeemanagementsystem.model.Department;
 import com.employeemanagementsystem.patterns.singleton.DatabaseConnection;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,25 +40,63 @@ public class DepartmentDAO {
         }
     }
 
+    // Headcount per department from one GROUP BY over employees.department_id
+    private static final String SELECT_WITH_HEADCOUNT =
+            "SELECT d.*, COALESCE(c.headcount, 0) AS headcount FROM departments d " +
+            "LEFT JOIN (SELECT department_id, COUNT(*) AS headcount FROM employees " +
+            "WHERE department_id IS NOT NULL GROUP BY department_id) c " +
+            "ON d.department_id = c.department_id";
+
+    // Members grouped by department, so each department's ids arrive as one run
+    private static final String SELECT_MEMBERS =
+            "SELECT employee_id, department_id FROM employees " +
+            "WHERE department_id IS NOT NULL ORDER BY department_id";
+
     /**
-     * Get all departments
+     * Get all departments with their headcounts and member ids.
+     * The GROUP BY headcount sizes each department's id set up front, then one
+     * forward-only scan ordered by department hands each run of ids to the
+     * department in bulk, so even a very large department loads without rehashing.
      */
     public List<Department> getAllDepartments() {
         List<Department> departments = new ArrayList<>();
-        String sql = "SELECT * FROM departments";
+        Map<Integer, Department> byId = new HashMap<>();
 
         try (Connection conn = DatabaseConnection.getInstance().getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                int id = rs.getInt("department_id");
-                String name = rs.getString("department_name");
-                String manager = rs.getString("manager_name");
-                String location = rs.getString("location");
+             Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            try (ResultSet rs = stmt.executeQuery(SELECT_WITH_HEADCOUNT)) {
+                while (rs.next()) {
+                    Department dept = mapDepartment(rs);
+                    dept.setEmployeeCount(rs.getInt("headcount"));
+                    departments.add(dept);
+                    byId.put(dept.getDepartmentId(), dept);
+                }
+            }
 
-                Department dept = new Department(id, name, manager, location);
-                departments.add(dept);
+            stmt.setFetchSize(Integer.MIN_VALUE); // stream rows (MySQL Connector/J)
+            try (ResultSet rs = stmt.executeQuery(SELECT_MEMBERS)) {
+                Department current = null;
+                int[] members = new int[0];
+                int count = 0;
+                while (rs.next()) {
+                    int departmentId = rs.getInt(2);
+                    if (current == null || current.getDepartmentId() != departmentId) {
+                        if (current != null) {
+                            current.setEmployeeIds(members, count);
+                        }
+                        current = byId.get(departmentId);
+                        members = new int[current != null ? Math.max(current.getEmployeeCount(), 1) : 1];
+                        count = 0;
+                    }
+                    if (count == members.length) {
+                        members = Arrays.copyOf(members, count * 2); // employees added since the headcount
+                    }
+                    members[count++] = rs.getInt(1);
+                }
+                if (current != null) {
+                    current.setEmployeeIds(members, count);
+                }
             }
 
         } catch (SQLException e) {
@@ -65,6 +106,15 @@ public class DepartmentDAO {
         return departments;
     }
 
+    private Department mapDepartment(ResultSet rs) throws SQLException {
+        return new Department(
+                rs.getInt("department_id"),
+                rs.getString("department_name"),
+                rs.getString("manager_name"),
+                rs.getString("location")
+        );
+    }
+
     public Optional<Department> getDepartmentByNameIgnoreCase(String name) {
         try (Connection conn = DatabaseConnection.getInstance().getValidConnection();
              PreparedStatement ps = conn.prepareStatement(
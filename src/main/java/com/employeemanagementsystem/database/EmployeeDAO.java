@@ -1,11 +1,16 @@
 package com.employeemanagementsystem.database;
 
+import com.employeemanagementsystem.analytics.EmployeeSnapshot;
 import com.employeemanagementsystem.model.*;
 import com.employeemanagementsystem.patterns.singleton.DatabaseConnection;
+import java.math.BigDecimal;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * Data Access Object for Employee operations
@@ -13,34 +18,49 @@ import java.util.List;
  */
 public class EmployeeDAO {
 
+    // Department id meaning "every department" in forEachEmployee
+    public static final int ANY_DEPARTMENT = -1;
+
+    private static final String SELECT_WITH_DEPARTMENT = """
+            SELECT e.*, d.department_id as dept_id, d.department_name,
+                   d.manager_name, d.location
+            FROM employees e
+            LEFT JOIN departments d ON e.department_id = d.department_id
+            """;
+
+    private static final String INSERT_EMPLOYEE = "INSERT INTO employees (employee_id, first_name, last_name, email, " +
+            "phone_number, hire_date, department_id, base_salary, employee_type, " +
+            "annual_leave_days, hours_per_week, hourly_rate, contract_end_date, project_name) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Used for rows stored before subtype attributes were persisted
+    private static final int DEFAULT_ANNUAL_LEAVE_DAYS = 20;
+    private static final int DEFAULT_HOURS_PER_WEEK = 20;
+    private static final double DEFAULT_HOURLY_RATE = 15.0;
+    private static final String DEFAULT_PROJECT_NAME = "Project";
+
+    /**
+     * Monthly salary of the employee row aliased e, as a SQL expression:
+     * hourly rate x hours x 4 weeks for part-time staff, base salary otherwise
+     * (the same rule as calculateSalaryCents). Missing hours or rate fall back
+     * to the same defaults as mapEmployee, so the two always agree.
+     */
+    public static final String MONTHLY_SALARY_SQL =
+            "CASE WHEN e.employee_type = " + EmployeeType.PART_TIME.getCode() +
+            " THEN COALESCE(e.hourly_rate, " + DEFAULT_HOURLY_RATE + ")" +
+            " * COALESCE(e.hours_per_week, " + DEFAULT_HOURS_PER_WEEK + ") * 4 ELSE e.base_salary END";
+
+    // Rows sent per executeBatch when inserting many employees
+    private static final int INSERT_BATCH_SIZE = 1000;
+
     /**
      * Insert a new employee into the database
      */
     public boolean insertEmployee(Employee employee) {
-        String sql = "INSERT INTO employees (employee_id, first_name, last_name, email, " +
-                "phone_number, hire_date, department_id, base_salary, employee_type) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
         try (Connection conn = DatabaseConnection.getInstance().getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, employee.getEmployeeId());
-            pstmt.setString(2, employee.getFirstName());
-            pstmt.setString(3, employee.getLastName());
-            pstmt.setString(4, employee.getEmail());
-            pstmt.setString(5, employee.getPhoneNumber());
-            pstmt.setDate(6, Date.valueOf(employee.getHireDate()));
-
-            // Handle department_id
-            if (employee.getDepartment() != null) {
-                pstmt.setInt(7, employee.getDepartment().getDepartmentId());
-            } else {
-                pstmt.setNull(7, Types.INTEGER);
-            }
-
-            pstmt.setDouble(8, employee.getBaseSalary());
-            pstmt.setString(9, employee.getEmployeeType());
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_EMPLOYEE)) {
 
+            bindInsert(pstmt, employee);
             int rowsAffected = pstmt.executeUpdate();
             return rowsAffected > 0;
 
@@ -50,17 +70,102 @@ public class EmployeeDAO {
         }
     }
 
+    /**
+     * Insert many employees in one transaction using JDBC batches
+     * (rewritten by the driver into multi-row INSERTs). Either all rows are
+     * stored or none are.
+     */
+    public boolean insertEmployees(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return true;
+        }
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = conn.prepareStatement(INSERT_EMPLOYEE)) {
+                int pending = 0;
+                for (Employee employee : employees) {
+                    bindInsert(pstmt, employee);
+                    pstmt.addBatch();
+                    if (++pending == INSERT_BATCH_SIZE) {
+                        pstmt.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    pstmt.executeBatch();
+                }
+                conn.commit();
+                return true;
+
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error inserting employees: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void bindInsert(PreparedStatement pstmt, Employee employee) throws SQLException {
+        pstmt.setInt(1, employee.getEmployeeId());
+        pstmt.setString(2, employee.getFirstName());
+        pstmt.setString(3, employee.getLastName());
+        pstmt.setString(4, employee.getEmail());
+        pstmt.setString(5, employee.getPhoneNumber());
+        pstmt.setDate(6, Date.valueOf(employee.getHireDate()));
+
+        // Handle department_id
+        if (employee.getDepartment() != null) {
+            pstmt.setInt(7, employee.getDepartment().getDepartmentId());
+        } else {
+            pstmt.setNull(7, Types.INTEGER);
+        }
+
+        pstmt.setBigDecimal(8, Money.toBigDecimal(employee.getBaseSalaryCents()));
+        pstmt.setInt(9, employee.getType().getCode());
+        bindSubtype(pstmt, 10, employee);
+    }
+
+    /**
+     * Bind annual_leave_days, hours_per_week, hourly_rate, contract_end_date and
+     * project_name starting at index; the columns of other types are NULL
+     */
+    private void bindSubtype(PreparedStatement pstmt, int index, Employee employee) throws SQLException {
+        Integer leaveDays = null;
+        Integer hoursPerWeek = null;
+        BigDecimal hourlyRate = null;
+        Date contractEnd = null;
+        String projectName = null;
+
+        if (employee instanceof FullTimeEmployee) {
+            leaveDays = ((FullTimeEmployee) employee).getAnnualLeaveDays();
+        } else if (employee instanceof PartTimeEmployee) {
+            PartTimeEmployee partTime = (PartTimeEmployee) employee;
+            hoursPerWeek = partTime.getHoursPerWeek();
+            hourlyRate = Money.toBigDecimal(partTime.getHourlyRateCents());
+        } else if (employee instanceof Contractor) {
+            Contractor contractor = (Contractor) employee;
+            contractEnd = contractor.getContractEndDate() != null ? Date.valueOf(contractor.getContractEndDate()) : null;
+            projectName = contractor.getProjectName();
+        }
+
+        pstmt.setObject(index, leaveDays, Types.INTEGER);
+        pstmt.setObject(index + 1, hoursPerWeek, Types.INTEGER);
+        pstmt.setBigDecimal(index + 2, hourlyRate);
+        pstmt.setDate(index + 3, contractEnd);
+        pstmt.setString(index + 4, projectName);
+    }
+
     /**
      * Get all employees from the database with department information
      */
     public List<Employee> getAllEmployees() {
         List<Employee> employees = new ArrayList<>();
-        String sql = """
-            SELECT e.*, d.department_id as dept_id, d.department_name, 
-                   d.manager_name, d.location
-            FROM employees e
-            LEFT JOIN departments d ON e.department_id = d.department_id
-            """;
+        String sql = SELECT_WITH_DEPARTMENT;
         System.out.println("Executing query: " + sql);
 
         try (Connection conn = DatabaseConnection.getInstance().getConnection();
@@ -69,39 +174,35 @@ public class EmployeeDAO {
             System.out.println("ResultSet obtained: " + (rs != null));
 
             while (rs.next()) {
-                int id = rs.getInt("employee_id");
-                String firstName = rs.getString("first_name");
-                String lastName = rs.getString("last_name");
-                String email = rs.getString("email");
-                String phone = rs.getString("phone_number");
-                LocalDate hireDate = rs.getDate("hire_date").toLocalDate();
-                double salary = rs.getDouble("base_salary");
-                String type = rs.getString("employee_type");
-
-                // Create Department object
-                Department department = null;
-                int deptId = rs.getInt("dept_id");
-                if (!rs.wasNull()) {
-                    String deptName = rs.getString("department_name");
-                    String manager = rs.getString("manager_name");
-                    String location = rs.getString("location");
-                    department = new Department(deptId, deptName, manager, location);
-                }
+                employees.add(mapEmployee(rs, null));
+            }
 
-                // Create appropriate employee type
-                Employee emp;
-                if (type.equalsIgnoreCase("Full-time")) {
-                    emp = new FullTimeEmployee(id, firstName, lastName, email, phone,
-                            hireDate, department, salary, 20);
-                } else if (type.equalsIgnoreCase("Part-time")) {
-                    emp = new PartTimeEmployee(id, firstName, lastName, email, phone,
-                            hireDate, department, salary, 20, 15.0);
-                } else {
-                    emp = new Contractor(id, firstName, lastName, email, phone,
-                            hireDate, department, salary,
-                            LocalDate.now().plusYears(1), "Project");
-                }
-                employees.add(emp);
+        } catch (SQLException e) {
+            System.err.println("Error fetching employees: " + e.getMessage());
+        }
+
+        return employees;
+    }
+
+    /**
+     * Get all employees as immutable copies, safe to share between threads.
+     * Employees of the same department share one ImmutableDepartment.
+     */
+    public List<ImmutableEmployee> getAllImmutableEmployees() {
+        List<ImmutableEmployee> employees = new ArrayList<>();
+        Map<Integer, Department> departments = new HashMap<>();
+        Map<Integer, ImmutableDepartment> immutableDepartments = new HashMap<>();
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(SELECT_WITH_DEPARTMENT)) {
+
+            while (rs.next()) {
+                Employee employee = mapEmployee(rs, departments);
+                Department department = employee.getDepartment();
+                employees.add(ImmutableEmployee.from(employee, department == null ? null
+                        : immutableDepartments.computeIfAbsent(department.getDepartmentId(),
+                                id -> ImmutableDepartment.from(department))));
             }
 
         } catch (SQLException e) {
@@ -115,13 +216,7 @@ public class EmployeeDAO {
      * Get employee by ID
      */
     public Employee getEmployeeById(int employeeId) {
-        String sql = """
-            SELECT e.*, d.department_id as dept_id, d.department_name, 
-                   d.manager_name, d.location
-            FROM employees e
-            LEFT JOIN departments d ON e.department_id = d.department_id
-            WHERE e.employee_id = ?
-            """;
+        String sql = SELECT_WITH_DEPARTMENT + "WHERE e.employee_id = ?";
         System.out.println("Executing query: " + sql);
 
         try (Connection conn = DatabaseConnection.getInstance().getConnection();
@@ -132,35 +227,7 @@ public class EmployeeDAO {
             System.out.println("ResultSet obtained: " + (rs != null));
 
             if (rs.next()) {
-                String firstName = rs.getString("first_name");
-                String lastName = rs.getString("last_name");
-                String email = rs.getString("email");
-                String phone = rs.getString("phone_number");
-                LocalDate hireDate = rs.getDate("hire_date").toLocalDate();
-                double salary = rs.getDouble("base_salary");
-                String type = rs.getString("employee_type");
-
-                // Create Department object
-                Department department = null;
-                int deptId = rs.getInt("dept_id");
-                if (!rs.wasNull()) {
-                    String deptName = rs.getString("department_name");
-                    String manager = rs.getString("manager_name");
-                    String location = rs.getString("location");
-                    department = new Department(deptId, deptName, manager, location);
-                }
-
-                if (type.equalsIgnoreCase("Full-time")) {
-                    return new FullTimeEmployee(employeeId, firstName, lastName, email,
-                            phone, hireDate, department, salary, 20);
-                } else if (type.equalsIgnoreCase("Part-time")) {
-                    return new PartTimeEmployee(employeeId, firstName, lastName, email,
-                            phone, hireDate, department, salary, 20, 15.0);
-                } else {
-                    return new Contractor(employeeId, firstName, lastName, email, phone,
-                            hireDate, department, salary,
-                            LocalDate.now().plusYears(1), "Project");
-                }
+                return mapEmployee(rs, null);
             }
 
         } catch (SQLException e) {
@@ -175,7 +242,9 @@ public class EmployeeDAO {
      */
     public boolean updateEmployee(Employee employee) {
         String sql = "UPDATE employees SET first_name = ?, last_name = ?, email = ?, " +
-                "phone_number = ?, department_id = ?, base_salary = ? WHERE employee_id = ?";
+                "phone_number = ?, department_id = ?, base_salary = ?, " +
+                "annual_leave_days = ?, hours_per_week = ?, hourly_rate = ?, " +
+                "contract_end_date = ?, project_name = ? WHERE employee_id = ?";
 
         try (Connection conn = DatabaseConnection.getInstance().getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -192,8 +261,9 @@ public class EmployeeDAO {
                 pstmt.setNull(5, Types.INTEGER);
             }
 
-            pstmt.setDouble(6, employee.getBaseSalary());
-            pstmt.setInt(7, employee.getEmployeeId());
+            pstmt.setBigDecimal(6, Money.toBigDecimal(employee.getBaseSalaryCents()));
+            bindSubtype(pstmt, 7, employee);
+            pstmt.setInt(12, employee.getEmployeeId());
 
             int rowsAffected = pstmt.executeUpdate();
             return rowsAffected > 0;
@@ -228,12 +298,8 @@ public class EmployeeDAO {
      */
     public List<Employee> searchEmployees(String keyword) {
         List<Employee> employees = new ArrayList<>();
-        String sql = """
-            SELECT e.*, d.department_id as dept_id, d.department_name, 
-                   d.manager_name, d.location
-            FROM employees e
-            LEFT JOIN departments d ON e.department_id = d.department_id
-            WHERE e.first_name LIKE ? OR e.last_name LIKE ? 
+        String sql = SELECT_WITH_DEPARTMENT + """
+            WHERE e.first_name LIKE ? OR e.last_name LIKE ?
                OR d.department_name LIKE ?
             """;
 
@@ -248,54 +314,109 @@ public class EmployeeDAO {
             ResultSet rs = pstmt.executeQuery();
 
             while (rs.next()) {
-                int id = rs.getInt("employee_id");
-                String firstName = rs.getString("first_name");
-                String lastName = rs.getString("last_name");
-                String email = rs.getString("email");
-                String phone = rs.getString("phone_number");
-                LocalDate hireDate = rs.getDate("hire_date").toLocalDate();
-                double salary = rs.getDouble("base_salary");
-                String type = rs.getString("employee_type");
-
-                // Create Department object
-                Department department = null;
-                int deptId = rs.getInt("dept_id");
-                if (!rs.wasNull()) {
-                    String deptName = rs.getString("department_name");
-                    String manager = rs.getString("manager_name");
-                    String location = rs.getString("location");
-                    department = new Department(deptId, deptName, manager, location);
-                }
+                employees.add(mapEmployee(rs, null));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error searching employees: " + e.getMessage());
+        }
+
+        return employees;
+    }
+
+    /**
+     * Get one page of employees, sorted and filtered in the database.
+     * Only the rows of the page are transferred and mapped, so the table can
+     * be browsed in any supported order without loading every employee.
+     */
+    public List<Employee> getEmployeePage(EmployeeQuery query) {
+        List<Employee> employees = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        String sql = SELECT_WITH_DEPARTMENT + query.whereClause(params) + query.orderByClause() + "LIMIT ? OFFSET ?";
+        Map<Integer, Department> departments = new HashMap<>();
 
-                Employee emp;
-                if (type.equalsIgnoreCase("Full-time")) {
-                    emp = new FullTimeEmployee(id, firstName, lastName, email, phone,
-                            hireDate, department, salary, 20);
-                } else if (type.equalsIgnoreCase("Part-time")) {
-                    emp = new PartTimeEmployee(id, firstName, lastName, email, phone,
-                            hireDate, department, salary, 20, 15.0);
-                } else {
-                    emp = new Contractor(id, firstName, lastName, email, phone,
-                            hireDate, department, salary,
-                            LocalDate.now().plusYears(1), "Project");
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = bindParams(pstmt, params);
+            pstmt.setInt(index, query.getLimit());
+            pstmt.setInt(index + 1, query.getOffset());
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    employees.add(mapEmployee(rs, departments));
                 }
-                employees.add(emp);
             }
 
         } catch (SQLException e) {
-            System.err.println("Error searching employees: " + e.getMessage());
+            System.err.println("Error fetching employee page: " + e.getMessage());
         }
 
         return employees;
     }
 
+    /**
+     * Number of employees matching the filters of a query (its sort and page are ignored)
+     */
+    public int countEmployees(EmployeeQuery query) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT COUNT(*) FROM employees e\n" +
+                "LEFT JOIN departments d ON e.department_id = d.department_id\n" + query.whereClause(params);
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            bindParams(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error counting employees: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * A page of employees together with the total number of matches
+     */
+    public EmployeePage getEmployeePageWithCount(EmployeeQuery query) {
+        List<Employee> employees = getEmployeePage(query);
+        boolean lastPage = employees.size() < query.getLimit()
+                && (query.getOffset() == 0 || !employees.isEmpty());
+        int total = lastPage
+                ? query.getOffset() + employees.size() // the page itself tells the total, no COUNT needed
+                : countEmployees(query);
+        return new EmployeePage(employees, query.getOffset(), total);
+    }
+
+    /**
+     * Bind params from index 1 on
+     *
+     * @return the next free parameter index
+     */
+    private int bindParams(PreparedStatement pstmt, List<Object> params) throws SQLException {
+        int index = 1;
+        for (Object param : params) {
+            pstmt.setObject(index++, param);
+        }
+        return index;
+    }
+
     public boolean updateSalary(int employeeId, double newSalary) {
+        return updateSalaryCents(employeeId, Money.ofDouble(newSalary));
+    }
+
+    /**
+     * Update base salary with an exact amount in cents
+     */
+    public boolean updateSalaryCents(int employeeId, long newSalaryCents) {
         String sql = "UPDATE employees SET base_salary = ? WHERE employee_id = ?";
 
         try (Connection conn = DatabaseConnection.getInstance().getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setDouble(1, newSalary);
+            pstmt.setBigDecimal(1, Money.toBigDecimal(newSalaryCents));
             pstmt.setInt(2, employeeId);
 
             int rowsAffected = pstmt.executeUpdate();
@@ -306,4 +427,141 @@ public class EmployeeDAO {
             return false;
         }
     }
-}
\ No newline at end of file
+    /**
+     * Stream every employee (or every employee of one department) to the visitor
+     * without materialising the full list. The MySQL driver only streams rows
+     * when the fetch size is Integer.MIN_VALUE, so memory stays flat regardless
+     * of table size. Departments are shared between rows instead of being
+     * rebuilt for every employee.
+     *
+     * @param departmentId only stream this department, or ANY_DEPARTMENT for all
+     * @param visitor receives each employee; return false to stop reading early
+     * @return true if every row was read or the visitor stopped early, false if
+     *         reading failed part-way (the visitor has then seen only some rows)
+     */
+    public boolean forEachEmployee(int departmentId, Predicate<Employee> visitor) {
+        String sql = SELECT_WITH_DEPARTMENT
+                + (departmentId != ANY_DEPARTMENT ? "WHERE e.department_id = ? " : "")
+                + "ORDER BY e.employee_id";
+        Map<Integer, Department> departments = new HashMap<>();
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            if (departmentId != ANY_DEPARTMENT) {
+                pstmt.setInt(1, departmentId);
+            }
+            pstmt.setFetchSize(Integer.MIN_VALUE);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    if (!visitor.test(mapEmployee(rs, departments))) {
+                        break;
+                    }
+                }
+            }
+            return true;
+
+        } catch (SQLException e) {
+            System.err.println("Error streaming employees: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Read the columns needed for analytics into a columnar snapshot.
+     * Rows are streamed straight into primitive arrays; no Employee or
+     * Department objects are created.
+     */
+    public EmployeeSnapshot loadSnapshot() {
+        String sql = "SELECT e.employee_id, " + MONTHLY_SALARY_SQL + " AS monthly_salary, " +
+                "e.employee_type, e.department_id, e.hire_date FROM employees e ORDER BY e.employee_id";
+        EmployeeSnapshot.Builder builder = new EmployeeSnapshot.Builder();
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            stmt.setFetchSize(Integer.MIN_VALUE);
+
+            try (ResultSet rs = stmt.executeQuery(sql)) {
+                while (rs.next()) {
+                    int deptId = rs.getInt("department_id");
+                    if (rs.wasNull()) {
+                        deptId = EmployeeSnapshot.NO_DEPARTMENT;
+                    }
+                    builder.add(rs.getInt("employee_id"),
+                            Money.fromBigDecimal(rs.getBigDecimal("monthly_salary")),
+                            rs.getByte("employee_type"),
+                            deptId,
+                            rs.getDate("hire_date").toLocalDate());
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error loading employee snapshot: " + e.getMessage());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Build the correct Employee subtype from the current row of a
+     * SELECT_WITH_DEPARTMENT query.
+     *
+     * @param departments optional cache of departments already seen, may be null
+     */
+    private Employee mapEmployee(ResultSet rs, Map<Integer, Department> departments) throws SQLException {
+        int id = rs.getInt("employee_id");
+        String firstName = rs.getString("first_name");
+        String lastName = rs.getString("last_name");
+        String email = rs.getString("email");
+        String phone = rs.getString("phone_number");
+        LocalDate hireDate = rs.getDate("hire_date").toLocalDate();
+        double salary = Money.toDouble(Money.fromBigDecimal(rs.getBigDecimal("base_salary")));
+        EmployeeType type = EmployeeType.fromCode(rs.getInt("employee_type"));
+
+        // Create Department object
+        Department department = null;
+        int deptId = rs.getInt("dept_id");
+        if (!rs.wasNull()) {
+            department = departments != null ? departments.get(deptId) : null;
+            if (department == null) {
+                String deptName = rs.getString("department_name");
+                String manager = rs.getString("manager_name");
+                String location = rs.getString("location");
+                department = new Department(deptId, deptName, manager, location);
+                if (departments != null) {
+                    departments.put(deptId, department);
+                }
+            }
+        }
+
+        // Create appropriate employee type with its stored subtype attributes
+        switch (type) {
+            case FULL_TIME: {
+                int leaveDays = rs.getInt("annual_leave_days");
+                return new FullTimeEmployee(id, firstName, lastName, email, phone,
+                        hireDate, department, salary, rs.wasNull() ? DEFAULT_ANNUAL_LEAVE_DAYS : leaveDays);
+            }
+            case PART_TIME: {
+                int hours = rs.getInt("hours_per_week");
+                if (rs.wasNull()) {
+                    hours = DEFAULT_HOURS_PER_WEEK;
+                }
+                BigDecimal rate = rs.getBigDecimal("hourly_rate");
+                return new PartTimeEmployee(id, firstName, lastName, email, phone,
+                        hireDate, department, salary, hours,
+                        rate != null ? Money.toDouble(Money.fromBigDecimal(rate)) : DEFAULT_HOURLY_RATE);
+            }
+            default: {
+                Date contractEnd = rs.getDate("contract_end_date");
+                String project = rs.getString("project_name");
+                return new Contractor(id, firstName, lastName, email, phone,
+                        hireDate, department, salary,
+                        contractEnd != null ? contractEnd.toLocalDate() : LocalDate.now().plusYears(1),
+                        project != null ? project : DEFAULT_PROJECT_NAME);
+            }
+        }
+    }
+}
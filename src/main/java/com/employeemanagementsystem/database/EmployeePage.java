@@ -0,0 +1,39 @@
+package com.employeemanagementsystem.database;
+
+import com.employeemanagementsystem.model.Employee;
+
+import java.util.List;
+
+/**
+ * One page of an EmployeeQuery result with the number of matching rows in total
+ */
+public class EmployeePage {
+    private final List<Employee> employees;
+    private final int offset;
+    private final int totalCount;
+
+    public EmployeePage(List<Employee> employees, int offset, int totalCount) {
+        this.employees = employees;
+        this.offset = offset;
+        this.totalCount = totalCount;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * True if rows after this page match the query
+     */
+    public boolean hasMore() {
+        return offset + employees.size() < totalCount;
+    }
+}
@@ -0,0 +1,235 @@
+package com.employeemanagementsystem.database;
+
+import com.employeemanagementsystem.model.EmployeeType;
+import com.employeemanagementsystem.model.Money;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sort order, filters and page window for EmployeeDAO.getEmployeePage.
+ *
+ * Sorting and filtering run in the database (ORDER BY / WHERE), so the
+ * employee table can show any page of a large table in any order without
+ * loading every row. Only the columns listed in SortKey can be sorted; the
+ * SQL for them is fixed here, user input only ever reaches the query as
+ * bound parameters.
+ */
+public class EmployeeQuery {
+
+    public static final int DEFAULT_PAGE_SIZE = 500;
+
+    /**
+     * Sortable employee table columns and the SQL expression each one sorts by
+     */
+    public enum SortKey {
+        ID("e.employee_id"),
+        LAST_NAME("e.last_name"),
+        DEPARTMENT("d.department_name"),
+        TYPE("e.employee_type"), // code order: Full-time, Part-time, Contractor
+        SALARY("e.base_salary");
+
+        private final String column;
+
+        SortKey(String column) {
+            this.column = column;
+        }
+
+        String getColumn() {
+            return column;
+        }
+    }
+
+    /**
+     * One ORDER BY term
+     */
+    public static class Sort {
+        private final SortKey key;
+        private final boolean ascending;
+
+        public Sort(SortKey key, boolean ascending) {
+            this.key = key;
+            this.ascending = ascending;
+        }
+
+        public SortKey getKey() {
+            return key;
+        }
+
+        public boolean isAscending() {
+            return ascending;
+        }
+    }
+
+    private final List<Sort> sorts = new ArrayList<>();
+
+    // Filters; null = not filtered
+    private Integer employeeId;
+    private String lastNamePrefix;
+    private String departmentPrefix;
+    private EmployeeType employeeType;
+    private Long minSalaryCents;
+    private Long maxSalaryCents;
+    private String keyword; // first name, last name or department contains
+
+    private int offset;
+    private int limit = DEFAULT_PAGE_SIZE;
+
+    /**
+     * Independent copy, e.g. to hand to a background thread while the UI keeps editing this one
+     */
+    public EmployeeQuery copy() {
+        EmployeeQuery copy = new EmployeeQuery();
+        copy.sorts.addAll(sorts);
+        copy.employeeId = employeeId;
+        copy.lastNamePrefix = lastNamePrefix;
+        copy.departmentPrefix = departmentPrefix;
+        copy.employeeType = employeeType;
+        copy.minSalaryCents = minSalaryCents;
+        copy.maxSalaryCents = maxSalaryCents;
+        copy.keyword = keyword;
+        copy.offset = offset;
+        copy.limit = limit;
+        return copy;
+    }
+
+    /**
+     * Append a sort term; earlier terms take precedence
+     */
+    public EmployeeQuery addSort(SortKey key, boolean ascending) {
+        sorts.add(new Sort(key, ascending));
+        return this;
+    }
+
+    public EmployeeQuery clearSorts() {
+        sorts.clear();
+        return this;
+    }
+
+    public List<Sort> getSorts() {
+        return Collections.unmodifiableList(sorts);
+    }
+
+    public EmployeeQuery employeeId(Integer employeeId) {
+        this.employeeId = employeeId;
+        return this;
+    }
+
+    public EmployeeQuery lastNamePrefix(String lastNamePrefix) {
+        this.lastNamePrefix = blankToNull(lastNamePrefix);
+        return this;
+    }
+
+    public EmployeeQuery departmentPrefix(String departmentPrefix) {
+        this.departmentPrefix = blankToNull(departmentPrefix);
+        return this;
+    }
+
+    public EmployeeQuery employeeType(EmployeeType employeeType) {
+        this.employeeType = employeeType;
+        return this;
+    }
+
+    /**
+     * Base salary range in cents; either bound may be null for an open range
+     */
+    public EmployeeQuery salaryRangeCents(Long minSalaryCents, Long maxSalaryCents) {
+        this.minSalaryCents = minSalaryCents;
+        this.maxSalaryCents = maxSalaryCents;
+        return this;
+    }
+
+    public EmployeeQuery keyword(String keyword) {
+        this.keyword = blankToNull(keyword);
+        return this;
+    }
+
+    /**
+     * Select rows [offset, offset + limit) of the sorted, filtered result
+     */
+    public EmployeeQuery page(int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("Invalid page: offset " + offset + ", limit " + limit);
+        }
+        this.offset = offset;
+        this.limit = limit;
+        return this;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * WHERE clause (empty if nothing is filtered), adding its parameters to params in order
+     */
+    String whereClause(List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+
+        if (employeeId != null) {
+            conditions.add("e.employee_id = ?");
+            params.add(employeeId);
+        }
+        if (lastNamePrefix != null) {
+            // A prefix match can use idx_employees_last_name
+            conditions.add("e.last_name LIKE ?");
+            params.add(escapeLike(lastNamePrefix) + "%");
+        }
+        if (departmentPrefix != null) {
+            conditions.add("d.department_name LIKE ?");
+            params.add(escapeLike(departmentPrefix) + "%");
+        }
+        if (employeeType != null) {
+            conditions.add("e.employee_type = ?");
+            params.add(employeeType.getCode());
+        }
+        if (minSalaryCents != null) {
+            conditions.add("e.base_salary >= ?");
+            params.add(Money.toBigDecimal(minSalaryCents));
+        }
+        if (maxSalaryCents != null) {
+            conditions.add("e.base_salary <= ?");
+            params.add(Money.toBigDecimal(maxSalaryCents));
+        }
+        if (keyword != null) {
+            String pattern = "%" + escapeLike(keyword) + "%";
+            conditions.add("(e.first_name LIKE ? OR e.last_name LIKE ? OR d.department_name LIKE ?)");
+            params.add(pattern);
+            params.add(pattern);
+            params.add(pattern);
+        }
+
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + "\n";
+    }
+
+    /**
+     * ORDER BY clause; employee_id is always the last term so pages never overlap
+     */
+    String orderByClause() {
+        StringBuilder sql = new StringBuilder("ORDER BY ");
+        boolean hasId = false;
+        for (Sort sort : sorts) {
+            sql.append(sort.getKey().getColumn()).append(sort.isAscending() ? " ASC, " : " DESC, ");
+            hasId |= sort.getKey() == SortKey.ID;
+        }
+        if (hasId) {
+            sql.setLength(sql.length() - 2);
+        } else {
+            sql.append("e.employee_id ASC");
+        }
+        return sql.append('\n').toString();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
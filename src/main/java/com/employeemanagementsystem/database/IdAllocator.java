@@ -0,0 +1,161 @@
+package com.employeemanagementsystem.database;
+
+import com.employeemanagementsystem.patterns.singleton.DatabaseConnection;
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Hands out primary keys from the id_sequences table (hi/lo allocation).
+ *
+ * Each round-trip reserves a whole block of ids by moving the sequence's
+ * next_value forward with a single atomic UPDATE, so instances sharing the
+ * database never receive overlapping blocks. Ids inside a block are handed
+ * out in memory with one atomic increment and no locking; only refilling an
+ * exhausted block takes the lock. Ids of a block that is not used up before
+ * the application stops are skipped, never reused.
+ */
+public class IdAllocator {
+
+    public static final String EMPLOYEES = "employees";
+    public static final String DEPARTMENTS = "departments";
+
+    private static final int DEFAULT_BLOCK_SIZE = 50;
+    private static final Map<String, IdAllocator> instances = new HashMap<>();
+
+    /**
+     * Reserved ids [next, limit); next may run past limit once the block is used up
+     */
+    private static final class Block {
+        final AtomicLong next;
+        final long limit;
+
+        Block(long first, long limit) {
+            this.next = new AtomicLong(first);
+            this.limit = limit;
+        }
+    }
+
+    private final String sequenceName;
+    private final int blockSize;
+    private final IntToLongFunction blockSource; // count -> first id of a newly reserved block
+    private volatile Block block = new Block(0, 0);
+
+    private IdAllocator(String sequenceName, int blockSize) {
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+        this.blockSource = this::reserveFromDatabase;
+    }
+
+    /**
+     * Allocator that reserves its blocks from blockSource instead of the database
+     */
+    IdAllocator(String sequenceName, int blockSize, IntToLongFunction blockSource) {
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+        this.blockSource = blockSource;
+    }
+
+    /**
+     * Get the allocator for a sequence, e.g. IdAllocator.EMPLOYEES
+     */
+    public static synchronized IdAllocator getInstance(String sequenceName) {
+        return instances.computeIfAbsent(sequenceName, name -> new IdAllocator(name, DEFAULT_BLOCK_SIZE));
+    }
+
+    public static IdAllocator employees() {
+        return getInstance(EMPLOYEES);
+    }
+
+    public static IdAllocator departments() {
+        return getInstance(DEPARTMENTS);
+    }
+
+    /**
+     * Next unused id
+     *
+     * @throws IllegalStateException if a new block could not be reserved
+     */
+    public int nextId() {
+        while (true) {
+            Block current = block;
+            long id = current.next.getAndIncrement();
+            if (id < current.limit) {
+                return (int) id;
+            }
+            refill(current);
+        }
+    }
+
+    /**
+     * Reserve a contiguous range of ids in one round-trip, for batch inserts.
+     * The returned supplier hands out exactly count ids and is thread-safe.
+     *
+     * @throws IllegalStateException if the range could not be reserved
+     */
+    public IntSupplier reserve(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        long first = blockSource.applyAsLong(count);
+        Block range = new Block(first, first + count);
+        return () -> {
+            long id = range.next.getAndIncrement();
+            if (id >= range.limit) {
+                throw new IllegalStateException("Reserved " + sequenceName + " ids used up");
+            }
+            return (int) id;
+        };
+    }
+
+    private synchronized void refill(Block exhausted) {
+        // Another thread may have refilled while we waited for the lock
+        if (block == exhausted) {
+            long first = blockSource.applyAsLong(blockSize);
+            block = new Block(first, first + blockSize);
+        }
+    }
+
+    /**
+     * Move the sequence forward by count and return the first id of the reserved block.
+     * LAST_INSERT_ID(expr) makes the new value readable on this connection
+     * without a second query or a locking transaction.
+     */
+    private long reserveFromDatabase(int count) {
+        String sql = "UPDATE id_sequences SET next_value = LAST_INSERT_ID(next_value + ?) WHERE sequence_name = ?";
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            pstmt.setInt(1, count);
+            pstmt.setString(2, sequenceName);
+            if (pstmt.executeUpdate() == 0) {
+                throw new IllegalStateException("No id sequence named " + sequenceName);
+            }
+
+            long limit;
+            try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                limit = keys.next() ? keys.getLong(1) : lastInsertId(conn);
+            }
+            if (limit > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Id sequence " + sequenceName + " exhausted");
+            }
+            return limit - count;
+
+        } catch (SQLException e) {
+            System.err.println("Error reserving ids from " + sequenceName + ": " + e.getMessage());
+            throw new IllegalStateException("Could not reserve " + sequenceName + " ids", e);
+        }
+    }
+
+    private long lastInsertId(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT LAST_INSERT_ID()")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
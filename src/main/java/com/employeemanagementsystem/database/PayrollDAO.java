@@ -0,0 +1,257 @@
+package com.employeemanagementsystem.database;
+
+import com.employeemanagementsystem.model.EmployeeType;
+import com.employeemanagementsystem.model.Money;
+import com.employeemanagementsystem.model.PayrollRecord;
+import com.employeemanagementsystem.model.SalaryAdjustment;
+import com.employeemanagementsystem.patterns.singleton.DatabaseConnection;
+import com.employeemanagementsystem.payroll.PayrollAggregate;
+import com.employeemanagementsystem.payroll.PayrollAggregateKey;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Data Access Object for payroll_records
+ * Writes payments in JDBC batches so bulk payroll runs need one round-trip per chunk
+ * and relies on a unique key so the same payment is never stored twice
+ */
+public class PayrollDAO {
+
+    private final AdjustmentDAO adjustmentDAO = new AdjustmentDAO();
+
+    /**
+     * Insert a chunk of payroll records in a single transaction, skipping any
+     * payment whose (employee, pay period, payment type) already exists.
+     *
+     * Skipping is done by the unique key in the database, so several application
+     * instances can pay the same employees concurrently without double payments.
+     * Every chunk is tagged with its own batch id, which tells us afterwards which
+     * rows this call actually inserted. The matching payroll_aggregates rows are
+     * updated in the same transaction.
+     *
+     * Record amounts are the salary without adjustments. Salary adjustments due
+     * on the payment date (see AdjustmentDAO.lockUnpaid) are locked, added to the
+     * amounts and marked paid for the inserted records in the same transaction,
+     * so a bonus is paid once and a certification allowance once a month. A bonus
+     * recorded after its month was paid is carried into the next month's payment.
+     * Expects at most one record per employee.
+     *
+     * @return the records that were inserted (already-paid ones are left out),
+     *         with adjustments included, or null if the transaction was rolled back
+     */
+    public List<PayrollRecord> insertPayrollRecords(List<PayrollRecord> records) {
+        if (records.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String sql = "INSERT INTO payroll_records " +
+                "(employee_id, payment_date, amount, payment_type, pay_period, batch_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE record_id = record_id";
+        String batchId = UUID.randomUUID().toString();
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                Map<Integer, List<SalaryAdjustment>> unpaid = lockUnpaidAdjustments(conn, records);
+                List<PayrollRecord> priced = new ArrayList<>(records.size());
+                for (PayrollRecord record : records) {
+                    long cents = record.getAmountCents();
+                    for (SalaryAdjustment adjustment : unpaid.getOrDefault(record.getEmployeeId(), List.of())) {
+                        cents = Money.add(cents, adjustment.getAmountCents());
+                    }
+                    priced.add(cents == record.getAmountCents() ? record : record.withAmountCents(cents));
+                }
+
+                for (PayrollRecord record : priced) {
+                    pstmt.setInt(1, record.getEmployeeId());
+                    pstmt.setDate(2, Date.valueOf(record.getPaymentDate()));
+                    pstmt.setBigDecimal(3, Money.toBigDecimal(record.getAmountCents()));
+                    pstmt.setString(4, record.getPaymentType());
+                    pstmt.setDate(5, Date.valueOf(record.getPayPeriod()));
+                    pstmt.setString(6, batchId);
+                    pstmt.addBatch();
+                }
+
+                pstmt.executeBatch();
+                List<PayrollRecord> inserted = findInserted(conn, batchId, priced);
+                for (PayrollRecord record : inserted) {
+                    adjustmentDAO.markPaid(conn, unpaid.getOrDefault(record.getEmployeeId(), List.of()),
+                            record.getPayPeriod());
+                }
+                upsertAggregates(conn, PayrollAggregate.summarize(inserted).values());
+                conn.commit();
+                return inserted;
+
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error inserting payroll records: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Unpaid adjustments of the records' employees by employee ID, locked until commit
+     */
+    private Map<Integer, List<SalaryAdjustment>> lockUnpaidAdjustments(Connection conn, List<PayrollRecord> records)
+            throws SQLException {
+        // Payments in a chunk normally share one date; each date is one query
+        Map<LocalDate, List<Integer>> employeesByDate = new TreeMap<>();
+        for (PayrollRecord record : records) {
+            employeesByDate.computeIfAbsent(record.getPaymentDate(), date -> new ArrayList<>())
+                    .add(record.getEmployeeId());
+        }
+
+        Map<Integer, List<SalaryAdjustment>> unpaid = new HashMap<>();
+        for (Map.Entry<LocalDate, List<Integer>> group : employeesByDate.entrySet()) {
+            for (SalaryAdjustment adjustment : adjustmentDAO.lockUnpaid(conn, group.getValue(), group.getKey())) {
+                unpaid.computeIfAbsent(adjustment.getEmployeeId(), id -> new ArrayList<>()).add(adjustment);
+            }
+        }
+        return unpaid;
+    }
+
+    /**
+     * Records from the chunk whose rows carry this batch id, i.e. were not skipped
+     */
+    private List<PayrollRecord> findInserted(Connection conn, String batchId,
+                                             List<PayrollRecord> records) throws SQLException {
+        Set<Integer> insertedIds = new HashSet<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT employee_id FROM payroll_records WHERE batch_id = ?")) {
+            pstmt.setString(1, batchId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    insertedIds.add(rs.getInt("employee_id"));
+                }
+            }
+        }
+
+        List<PayrollRecord> inserted = new ArrayList<>(insertedIds.size());
+        for (PayrollRecord record : records) {
+            if (insertedIds.contains(record.getEmployeeId())) {
+                inserted.add(record);
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Check whether the employee's salary for the pay period (month) containing the date is stored
+     */
+    public boolean isPaidForPeriod(int employeeId, LocalDate date) {
+        String sql = "SELECT 1 FROM payroll_records WHERE employee_id = ? AND pay_period = ? LIMIT 1";
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, employeeId);
+            pstmt.setDate(2, Date.valueOf(PayrollRecord.payPeriodOf(date)));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error checking payroll records: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Get all persisted payroll aggregates
+     */
+    public List<PayrollAggregate> getAggregates() {
+        List<PayrollAggregate> aggregates = new ArrayList<>();
+        String sql = "SELECT department_id, employee_type, period_start, payment_count, total_amount " +
+                "FROM payroll_aggregates";
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+
+            while (rs.next()) {
+                PayrollAggregateKey key = new PayrollAggregateKey(
+                        rs.getInt("department_id"),
+                        EmployeeType.fromCode(rs.getInt("employee_type")),
+                        YearMonth.from(rs.getDate("period_start").toLocalDate())
+                );
+                long cents = Money.fromBigDecimal(rs.getBigDecimal("total_amount"));
+                aggregates.add(new PayrollAggregate(key, rs.getLong("payment_count"), cents));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error fetching payroll aggregates: " + e.getMessage());
+        }
+
+        return aggregates;
+    }
+
+    /**
+     * Delete every payroll record and aggregate in one transaction, so the
+     * aggregates are never left describing records that no longer exist.
+     * Salary adjustments are marked unpaid again in the same transaction,
+     * since the payments that included them are gone.
+     *
+     * @return true if everything was cleared
+     */
+    public boolean deleteAllPayrollData() {
+        try (Connection conn = DatabaseConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("DELETE FROM payroll_aggregates");
+                stmt.executeUpdate("DELETE FROM payroll_records");
+                stmt.executeUpdate("UPDATE salary_adjustments SET paid_period = NULL");
+                conn.commit();
+                return true;
+
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error deleting payroll data: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Add aggregate deltas to payroll_aggregates on the caller's transaction
+     */
+    private void upsertAggregates(Connection conn, Iterable<PayrollAggregate> deltas) throws SQLException {
+        String sql = "INSERT INTO payroll_aggregates " +
+                "(department_id, employee_type, period_start, payment_count, total_amount) " +
+                "VALUES (?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE payment_count = payment_count + VALUES(payment_count), " +
+                "total_amount = total_amount + VALUES(total_amount)";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (PayrollAggregate delta : deltas) {
+                PayrollAggregateKey key = delta.getKey();
+                pstmt.setInt(1, key.getDepartmentId());
+                pstmt.setInt(2, key.getEmployeeType().getCode());
+                pstmt.setDate(3, Date.valueOf(key.getPeriod().atDay(1)));
+                pstmt.setLong(4, delta.getPaymentCount());
+                pstmt.setBigDecimal(5, Money.toBigDecimal(delta.getTotalCents()));
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+}
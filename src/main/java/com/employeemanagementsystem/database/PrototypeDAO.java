@@ -0,0 +1,153 @@
+package com.employeemanagementsystem.database;
+
+import com.employeemanagementsystem.model.*;
+import com.employeemanagementsystem.patterns.singleton.DatabaseConnection;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Data Access Object for employee_prototypes
+ * Stores the prototype registry so prototypes added at runtime survive a restart
+ */
+public class PrototypeDAO {
+
+    /**
+     * Load every stored prototype, keyed by prototype key. Departments are
+     * joined from the departments table, so prototypes carry real departments.
+     */
+    public Map<String, Employee> getAllPrototypes() {
+        Map<String, Employee> prototypes = new HashMap<>();
+        String sql = "SELECT p.*, d.department_name, d.manager_name, d.location " +
+                "FROM employee_prototypes p LEFT JOIN departments d ON p.department_id = d.department_id";
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+
+            while (rs.next()) {
+                prototypes.put(rs.getString("prototype_key"), mapPrototype(rs));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error fetching prototypes: " + e.getMessage());
+        }
+
+        return prototypes;
+    }
+
+    /**
+     * Insert or replace the prototype stored under this key
+     */
+    public boolean savePrototype(String key, Employee prototype) {
+        String sql = "INSERT INTO employee_prototypes (prototype_key, employee_type, department_id, base_salary, " +
+                "annual_leave_days, hours_per_week, hourly_rate, contract_months, project_name) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE employee_type = VALUES(employee_type), " +
+                "department_id = VALUES(department_id), base_salary = VALUES(base_salary), " +
+                "annual_leave_days = VALUES(annual_leave_days), hours_per_week = VALUES(hours_per_week), " +
+                "hourly_rate = VALUES(hourly_rate), contract_months = VALUES(contract_months), " +
+                "project_name = VALUES(project_name)";
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, key);
+            pstmt.setInt(2, prototype.getType().getCode());
+            if (prototype.getDepartment() != null && prototype.getDepartment().getDepartmentId() > 0) {
+                pstmt.setInt(3, prototype.getDepartment().getDepartmentId());
+            } else {
+                pstmt.setNull(3, Types.INTEGER);
+            }
+            pstmt.setBigDecimal(4, Money.toBigDecimal(prototype.getBaseSalaryCents()));
+
+            // Subtype attributes; the columns of other types stay NULL
+            Integer leaveDays = null;
+            Integer hoursPerWeek = null;
+            BigDecimal hourlyRate = null;
+            Integer contractMonths = null;
+            String projectName = null;
+
+            if (prototype instanceof FullTimeEmployee) {
+                leaveDays = ((FullTimeEmployee) prototype).getAnnualLeaveDays();
+            } else if (prototype instanceof PartTimeEmployee) {
+                PartTimeEmployee partTime = (PartTimeEmployee) prototype;
+                hoursPerWeek = partTime.getHoursPerWeek();
+                hourlyRate = Money.toBigDecimal(partTime.getHourlyRateCents());
+            } else if (prototype instanceof Contractor) {
+                Contractor contractor = (Contractor) prototype;
+                if (contractor.getContractEndDate() != null) {
+                    contractMonths = (int) ChronoUnit.MONTHS.between(
+                            contractor.getHireDate(), contractor.getContractEndDate());
+                }
+                projectName = contractor.getProjectName();
+            }
+
+            pstmt.setObject(5, leaveDays, Types.INTEGER);
+            pstmt.setObject(6, hoursPerWeek, Types.INTEGER);
+            pstmt.setBigDecimal(7, hourlyRate);
+            pstmt.setObject(8, contractMonths, Types.INTEGER);
+            pstmt.setString(9, projectName);
+
+            return pstmt.executeUpdate() > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error saving prototype: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean deletePrototype(String key) {
+        String sql = "DELETE FROM employee_prototypes WHERE prototype_key = ?";
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, key);
+            return pstmt.executeUpdate() > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error deleting prototype: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Build the prototype employee for the current row. Prototypes are hired
+     * today; a contractor's end date is counted from that.
+     */
+    private Employee mapPrototype(ResultSet rs) throws SQLException {
+        LocalDate today = LocalDate.now();
+        EmployeeType type = EmployeeType.fromCode(rs.getInt("employee_type"));
+        double salary = Money.toDouble(Money.fromBigDecimal(rs.getBigDecimal("base_salary")));
+        String label = type.getDisplayName().replace("-", "");
+
+        Department department = null;
+        int deptId = rs.getInt("department_id");
+        if (!rs.wasNull() && rs.getString("department_name") != null) {
+            department = new Department(deptId, rs.getString("department_name"),
+                    rs.getString("manager_name"), rs.getString("location"));
+        }
+
+        switch (type) {
+            case PART_TIME: {
+                BigDecimal rate = rs.getBigDecimal("hourly_rate");
+                return new PartTimeEmployee(0, "Prototype", label, "prototype@company.com", "000-000-0000",
+                        today, department, salary, rs.getInt("hours_per_week"),
+                        rate != null ? Money.toDouble(Money.fromBigDecimal(rate)) : 0.0);
+            }
+            case CONTRACTOR: {
+                int months = rs.getInt("contract_months");
+                return new Contractor(0, "Prototype", label, "prototype@company.com", "000-000-0000",
+                        today, department, salary, rs.wasNull() ? null : today.plusMonths(months),
+                        rs.getString("project_name"));
+            }
+            default:
+                return new FullTimeEmployee(0, "Prototype", label, "prototype@company.com", "000-000-0000",
+                        today, department, salary, rs.getInt("annual_leave_days"));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.employeemanagementsystem.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * A salary adjustment applied to a whole cohort of employees at once:
+ * a fixed amount or a percentage of base salary, for every employee matching
+ * a department, type and hire-date filter. AdjustmentDAO turns it into one
+ * INSERT ... SELECT. Immutable; use the with* methods to narrow the cohort.
+ */
+public final class BulkAdjustment {
+
+    // Filter value that matches every department
+    public static final int ANY_DEPARTMENT = -1;
+
+    private final SalaryAdjustment.Type type;
+    private final boolean percentage;
+    private final long amount; // cents, or basis points of base salary if percentage
+    private final String description;
+    private final int departmentId;
+    private final EmployeeType employeeType; // null = every type
+    private final LocalDate hiredOnOrBefore; // null = any hire date
+    private final LocalDate validFrom;
+    private final LocalDate validTo;
+
+    private BulkAdjustment(SalaryAdjustment.Type type, boolean percentage, long amount, String description,
+                           int departmentId, EmployeeType employeeType, LocalDate hiredOnOrBefore,
+                           LocalDate validFrom, LocalDate validTo) {
+        this.type = type;
+        this.percentage = percentage;
+        this.amount = amount;
+        this.description = description;
+        this.departmentId = departmentId;
+        this.employeeType = employeeType;
+        this.hiredOnOrBefore = hiredOnOrBefore;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+    }
+
+    /**
+     * The same fixed amount for every employee in the cohort
+     */
+    public static BulkAdjustment fixed(SalaryAdjustment.Type type, double amount, String description) {
+        LocalDate today = LocalDate.now();
+        return new BulkAdjustment(type, false, Money.ofDouble(amount), description,
+                ANY_DEPARTMENT, null, null, today, defaultValidTo(type, today));
+    }
+
+    /**
+     * A percentage of each employee's base salary, e.g. 5.0 for 5%
+     */
+    public static BulkAdjustment percentage(SalaryAdjustment.Type type, double percent, String description) {
+        LocalDate today = LocalDate.now();
+        return new BulkAdjustment(type, true, Math.round(percent * 100), description,
+                ANY_DEPARTMENT, null, null, today, defaultValidTo(type, today));
+    }
+
+    /**
+     * Same validity as the single-employee actions: bonus and overtime
+     * until the end of the month, certification with no end date
+     */
+    private static LocalDate defaultValidTo(SalaryAdjustment.Type type, LocalDate from) {
+        return type == SalaryAdjustment.Type.CERTIFICATION ? null : YearMonth.from(from).atEndOfMonth();
+    }
+
+    public BulkAdjustment withDepartment(int departmentId) {
+        return new BulkAdjustment(type, percentage, amount, description,
+                departmentId, employeeType, hiredOnOrBefore, validFrom, validTo);
+    }
+
+    /**
+     * Restrict to one employee type; null for all
+     */
+    public BulkAdjustment withEmployeeType(EmployeeType employeeType) {
+        return new BulkAdjustment(type, percentage, amount, description,
+                departmentId, employeeType, hiredOnOrBefore, validFrom, validTo);
+    }
+
+    public BulkAdjustment withHiredOnOrBefore(LocalDate date) {
+        return new BulkAdjustment(type, percentage, amount, description,
+                departmentId, employeeType, date, validFrom, validTo);
+    }
+
+    public BulkAdjustment withValidity(LocalDate validFrom, LocalDate validTo) {
+        return new BulkAdjustment(type, percentage, amount, description,
+                departmentId, employeeType, hiredOnOrBefore, validFrom, validTo);
+    }
+
+    public SalaryAdjustment.Type getType() {
+        return type;
+    }
+
+    public boolean isPercentage() {
+        return percentage;
+    }
+
+    /**
+     * Fixed amount in cents; only meaningful if not a percentage
+     */
+    public long getAmountCents() {
+        return percentage ? 0 : amount;
+    }
+
+    /**
+     * Percentage in basis points (100 = 1%); only meaningful if a percentage
+     */
+    public long getBasisPoints() {
+        return percentage ? amount : 0;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getDepartmentId() {
+        return departmentId;
+    }
+
+    public EmployeeType getEmployeeType() {
+        return employeeType;
+    }
+
+    public LocalDate getHiredOnOrBefore() {
+        return hiredOnOrBefore;
+    }
+
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+
+    @Override
+    public String toString() {
+        String value = percentage
+                ? BigDecimal.valueOf(amount, 2).stripTrailingZeros().toPlainString() + "% of base salary"
+                : "$" + Money.format(amount);
+        return type + " " + value + (description != null ? " (" + description + ")" : "");
+    }
+}
@@ -0,0 +1,42 @@
+package com.employeemanagementsystem.model;
+
+/**
+ * Outcome (or preview) of a bulk adjustment: how many employees it covers
+ * and the total amount added to their salaries
+ */
+public class BulkAdjustmentSummary {
+    private final int employeeCount;
+    private final long totalCents;
+    private final boolean applied;
+
+    public BulkAdjustmentSummary(int employeeCount, long totalCents, boolean applied) {
+        this.employeeCount = employeeCount;
+        this.totalCents = totalCents;
+        this.applied = applied;
+    }
+
+    public int getEmployeeCount() {
+        return employeeCount;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public double getTotal() {
+        return Money.toDouble(totalCents);
+    }
+
+    /**
+     * False for a preview, true once the adjustments are stored
+     */
+    public boolean isApplied() {
+        return applied;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %d employees, total $%s",
+                applied ? "Adjusted" : "Will adjust", employeeCount, Money.format(totalCents));
+    }
+}
@@ -14,15 +14,15 @@ public class Contractor extends Employee {
                       String phoneNumber, LocalDate hireDate, Department department,
                       double baseSalary, LocalDate contractEndDate, String projectName) {
         super(employeeId, firstName, lastName, email, phoneNumber, hireDate,
-                department, baseSalary, "Contractor");
+                department, baseSalary, EmployeeType.CONTRACTOR);
         this.contractEndDate = contractEndDate;
         this.projectName = projectName;
     }
 
     @Override
-    public double calculateSalary() {
+    public long calculateSalaryCents() {
         // Contractors receive their project-based salary
-        return getBaseSalary();
+        return getBaseSalaryCents();
     }
 
     @Override
@@ -36,6 +36,7 @@ public class Contractor extends Employee {
 
     public void setContractEndDate(LocalDate contractEndDate) {
         this.contractEndDate = contractEndDate;
+        changed();
     }
 
     public String getProjectName() {
@@ -44,5 +45,6 @@ public class Contractor extends Employee {
 
     public void setProjectName(String projectName) {
         this.projectName = projectName;
+        changed();
     }
 }
\ No newline at end of file
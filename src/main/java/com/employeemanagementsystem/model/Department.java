@@ -1,8 +1,5 @@
 package com.employeemanagementsystem.model;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Department class representing different departments in the organization
  * Used with Factory Pattern to create different department types
@@ -12,7 +9,8 @@ public class Department {
     private String departmentName;
     private String managerName;
     private String location;
-    private List<Integer> employeeIds; // List of employee IDs in this department
+    private final IntHashSet employeeIds; // IDs of the loaded members of this department
+    private int employeeCount;
 
     /**
      * Constructor for Department
@@ -22,15 +20,15 @@ public class Department {
         this.departmentName = departmentName;
         this.managerName = managerName;
         this.location = location;
-        this.employeeIds = new ArrayList<>();
+        this.employeeIds = new IntHashSet();
     }
 
     /**
      * Add an employee to the department
      */
     public void addEmployee(int employeeId) {
-        if (!employeeIds.contains(employeeId)) {
-            employeeIds.add(employeeId);
+        if (employeeIds.add(employeeId)) {
+            employeeCount++;
         }
     }
 
@@ -38,14 +36,24 @@ public class Department {
      * Remove an employee from the department
      */
     public void removeEmployee(int employeeId) {
-        employeeIds.remove(Integer.valueOf(employeeId));
+        if (employeeIds.remove(employeeId)) {
+            employeeCount--;
+        }
     }
 
     /**
-     * Get the number of employees in the department
+     * Get the number of employees in the department.
+     * This is the stored headcount when only counts were loaded (see DepartmentDAO).
      */
     public int getEmployeeCount() {
-        return employeeIds.size();
+        return employeeCount;
+    }
+
+    /**
+     * Set the headcount without loading the members
+     */
+    public void setEmployeeCount(int employeeCount) {
+        this.employeeCount = employeeCount;
     }
 
     // Getters and Setters
@@ -81,12 +89,28 @@ public class Department {
         this.location = location;
     }
 
-    public List<Integer> getEmployeeIds() {
-        return new ArrayList<>(employeeIds);
+    /**
+     * IDs of the loaded members, ascending
+     */
+    public int[] getEmployeeIds() {
+        return employeeIds.toSortedArray();
+    }
+
+    public void setEmployeeIds(int[] employeeIds) {
+        setEmployeeIds(employeeIds, employeeIds.length);
     }
 
-    public void setEmployeeIds(List<Integer> employeeIds) {
-        this.employeeIds = new ArrayList<>(employeeIds);
+    /**
+     * Replace the members with the first count ids of the array in one step;
+     * the set is sized once for all of them instead of growing as they are added
+     */
+    public void setEmployeeIds(int[] employeeIds, int count) {
+        this.employeeIds.clear();
+        this.employeeIds.ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            this.employeeIds.add(employeeIds[i]);
+        }
+        this.employeeCount = this.employeeIds.size();
     }
 
     @Override
@@ -96,7 +120,7 @@ public class Department {
                 ", departmentName='" + departmentName + '\'' +
                 ", managerName='" + managerName + '\'' +
                 ", location='" + location + '\'' +
-                ", employeeCount=" + employeeIds.size() +
+                ", employeeCount=" + employeeCount +
                 '}';
     }
 }
\ No newline at end of file
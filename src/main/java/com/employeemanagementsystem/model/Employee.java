@@ -14,15 +14,16 @@ public abstract class Employee implements Cloneable {
     private String phoneNumber;
     private LocalDate hireDate;
     private Department department; // Changed from String to Department
-    private double baseSalary;
-    private String employeeType; // "Full-time", "Part-time", "Contractor"
+    private long baseSalaryCents; // exact cents, see Money
+    private EmployeeType type;
+    private int version; // bumped whenever salary or benefits inputs change
 
     /**
      * Constructor for Employee
      */
     public Employee(int employeeId, String firstName, String lastName, String email,
                     String phoneNumber, LocalDate hireDate, Department department,
-                    double baseSalary, String employeeType) {
+                    double baseSalary, EmployeeType type) {
         this.employeeId = employeeId;
         this.firstName = firstName;
         this.lastName = lastName;
@@ -30,14 +31,22 @@ public abstract class Employee implements Cloneable {
         this.phoneNumber = phoneNumber;
         this.hireDate = hireDate;
         this.department = department;
-        this.baseSalary = baseSalary;
-        this.employeeType = employeeType;
+        this.baseSalaryCents = Money.ofDouble(baseSalary);
+        this.type = type;
     }
 
     /**
-     * Abstract method to calculate salary - different for each employee type
+     * Abstract method to calculate salary in cents - different for each employee type
+     * Used by payroll so bulk runs work on exact primitive amounts
      */
-    public abstract double calculateSalary();
+    public abstract long calculateSalaryCents();
+
+    /**
+     * Salary as a decimal amount, for display
+     */
+    public double calculateSalary() {
+        return Money.toDouble(calculateSalaryCents());
+    }
 
     /**
      * Abstract method to get employee benefits
@@ -107,19 +116,52 @@ public abstract class Employee implements Cloneable {
     }
 
     public double getBaseSalary() {
-        return baseSalary;
+        return Money.toDouble(baseSalaryCents);
     }
 
     public void setBaseSalary(double baseSalary) {
-        this.baseSalary = baseSalary;
+        this.baseSalaryCents = Money.ofDouble(baseSalary);
+        changed();
+    }
+
+    public long getBaseSalaryCents() {
+        return baseSalaryCents;
+    }
+
+    public void setBaseSalaryCents(long baseSalaryCents) {
+        this.baseSalaryCents = baseSalaryCents;
+        changed();
+    }
+
+    public EmployeeType getType() {
+        return type;
     }
 
+    /**
+     * Type name for display ("Full-time", "Part-time", "Contractor")
+     */
     public String getEmployeeType() {
-        return employeeType;
+        return type.getDisplayName();
     }
 
     public void setEmployeeType(String employeeType) {
-        this.employeeType = employeeType;
+        this.type = EmployeeType.parse(employeeType);
+        changed();
+    }
+
+    /**
+     * Counter that changes whenever anything calculateSalary() or getBenefits()
+     * depends on is modified, so cached results can be checked cheaply
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Record a change to a salary or benefits input; subclasses call this from their setters
+     */
+    protected void changed() {
+        version++;
     }
 
     /**
@@ -144,8 +186,8 @@ public abstract class Employee implements Cloneable {
                 ", phoneNumber='" + phoneNumber + '\'' +
                 ", hireDate=" + hireDate +
                 ", department=" + (department != null ? department.getDepartmentName() : "None") +
-                ", baseSalary=" + baseSalary +
-                ", employeeType='" + employeeType + '\'' +
+                ", baseSalary=" + Money.format(baseSalaryCents) +
+                ", employeeType='" + type.getDisplayName() + '\'' +
                 '}';
     }
 }
\ No newline at end of file
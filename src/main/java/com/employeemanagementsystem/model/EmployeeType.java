@@ -0,0 +1,82 @@
+package com.employeemanagementsystem.model;
+
+/**
+ * Employee types with stable small codes.
+ * The code is what the database stores (employee_type TINYINT, with names in
+ * the employee_types lookup table) and what bulk paths index arrays with, so
+ * codes must never be renumbered; new types get the next free code.
+ */
+public enum EmployeeType {
+    FULL_TIME(0, "Full-time"),
+    PART_TIME(1, "Part-time"),
+    CONTRACTOR(2, "Contractor");
+
+    // Number of types; arrays indexed by code have this length
+    public static final int COUNT = values().length;
+
+    private static final EmployeeType[] BY_CODE = new EmployeeType[COUNT];
+
+    static {
+        for (EmployeeType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+    private final String displayName;
+
+    EmployeeType(int code, String displayName) {
+        this.code = code;
+        this.displayName = displayName;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Name shown in the UI and stored in employee_types ("Full-time", ...)
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Type for a stored code
+     *
+     * @throws IllegalArgumentException for an unknown code
+     */
+    public static EmployeeType fromCode(int code) {
+        if (code < 0 || code >= COUNT) {
+            throw new IllegalArgumentException("Unknown employee type code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Parse a type name, ignoring case, spaces and hyphens
+     * ("Full-time", "fulltime", "FULL_TIME", "part time", "contractor")
+     *
+     * @throws IllegalArgumentException if the name is not a known type
+     */
+    public static EmployeeType parse(String name) {
+        String normalized = name == null ? "" : name.toLowerCase().replaceAll("[-_\\s]", "");
+        switch (normalized) {
+            case "fulltime":
+                return FULL_TIME;
+            case "parttime":
+                return PART_TIME;
+            case "contractor":
+            case "contract":
+                return CONTRACTOR;
+            default:
+                throw new IllegalArgumentException("Invalid employee type: " + name +
+                        ". Valid types are: Full-time, Part-time, Contractor");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
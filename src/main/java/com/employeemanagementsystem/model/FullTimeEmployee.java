@@ -13,15 +13,15 @@ public class FullTimeEmployee extends Employee {
                             String phoneNumber, LocalDate hireDate, Department department, // Changed
                             double baseSalary, int annualLeaveDays) {
         super(employeeId, firstName, lastName, email, phoneNumber, hireDate,
-                department, baseSalary, "Full-time"); // Changed
+                department, baseSalary, EmployeeType.FULL_TIME);
         this.annualLeaveDays = annualLeaveDays;
     }
 
 
     @Override
-    public double calculateSalary() {
+    public long calculateSalaryCents() {
         // Full-time employees get their full base salary
-        return getBaseSalary();
+        return getBaseSalaryCents();
     }
 
     @Override
@@ -35,5 +35,6 @@ public class FullTimeEmployee extends Employee {
 
     public void setAnnualLeaveDays(int annualLeaveDays) {
         this.annualLeaveDays = annualLeaveDays;
+        changed();
     }
 }
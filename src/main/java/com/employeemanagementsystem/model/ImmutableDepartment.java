@@ -0,0 +1,62 @@
+package com.employeemanagementsystem.model;
+
+/**
+ * Read-only copy of a Department.
+ * All fields are final, so one instance can be shared by any number of
+ * threads and caches without copying or locking.
+ */
+public final class ImmutableDepartment {
+    private final int departmentId;
+    private final String departmentName;
+    private final String managerName;
+    private final String location;
+    private final int employeeCount;
+
+    public ImmutableDepartment(int departmentId, String departmentName, String managerName,
+                               String location, int employeeCount) {
+        this.departmentId = departmentId;
+        this.departmentName = departmentName;
+        this.managerName = managerName;
+        this.location = location;
+        this.employeeCount = employeeCount;
+    }
+
+    /**
+     * Copy the current state of a department (members are not copied, only the headcount)
+     */
+    public static ImmutableDepartment from(Department department) {
+        return new ImmutableDepartment(department.getDepartmentId(), department.getDepartmentName(),
+                department.getManagerName(), department.getLocation(), department.getEmployeeCount());
+    }
+
+    public int getDepartmentId() {
+        return departmentId;
+    }
+
+    public String getDepartmentName() {
+        return departmentName;
+    }
+
+    public String getManagerName() {
+        return managerName;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public int getEmployeeCount() {
+        return employeeCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableDepartment{" +
+                "departmentId=" + departmentId +
+                ", departmentName='" + departmentName + '\'' +
+                ", managerName='" + managerName + '\'' +
+                ", location='" + location + '\'' +
+                ", employeeCount=" + employeeCount +
+                '}';
+    }
+}
@@ -0,0 +1,164 @@
+package com.employeemanagementsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only copy of an Employee, as returned by the EmployeeDAO read paths.
+ *
+ * All fields are final and the department is an ImmutableDepartment, so one
+ * instance can be handed to caches, reports and background jobs on any thread
+ * without defensive cloning or locking. The calculated salary is taken once,
+ * when the copy is made.
+ */
+public final class ImmutableEmployee {
+    private final int employeeId;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String phoneNumber;
+    private final LocalDate hireDate;
+    private final ImmutableDepartment department; // null = no department
+    private final EmployeeType type;
+    private final long baseSalaryCents;
+    private final long salaryCents; // calculateSalaryCents() of the source
+
+    // Subtype attributes; zero or null for the other types
+    private final int annualLeaveDays;
+    private final int hoursPerWeek;
+    private final long hourlyRateCents;
+    private final LocalDate contractEndDate;
+    private final String projectName;
+
+    private ImmutableEmployee(int employeeId, String firstName, String lastName, String email,
+                              String phoneNumber, LocalDate hireDate, ImmutableDepartment department,
+                              EmployeeType type, long baseSalaryCents, long salaryCents,
+                              int annualLeaveDays, int hoursPerWeek, long hourlyRateCents,
+                              LocalDate contractEndDate, String projectName) {
+        this.employeeId = employeeId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.hireDate = hireDate;
+        this.department = department;
+        this.type = type;
+        this.baseSalaryCents = baseSalaryCents;
+        this.salaryCents = salaryCents;
+        this.annualLeaveDays = annualLeaveDays;
+        this.hoursPerWeek = hoursPerWeek;
+        this.hourlyRateCents = hourlyRateCents;
+        this.contractEndDate = contractEndDate;
+        this.projectName = projectName;
+    }
+
+    /**
+     * Copy the current state of an employee with an already copied department,
+     * so employees of the same department can share one instance
+     */
+    public static ImmutableEmployee from(Employee employee, ImmutableDepartment department) {
+        int annualLeaveDays = 0;
+        int hoursPerWeek = 0;
+        long hourlyRateCents = 0;
+        LocalDate contractEndDate = null;
+        String projectName = null;
+
+        if (employee instanceof FullTimeEmployee) {
+            annualLeaveDays = ((FullTimeEmployee) employee).getAnnualLeaveDays();
+        } else if (employee instanceof PartTimeEmployee) {
+            PartTimeEmployee partTime = (PartTimeEmployee) employee;
+            hoursPerWeek = partTime.getHoursPerWeek();
+            hourlyRateCents = partTime.getHourlyRateCents();
+        } else if (employee instanceof Contractor) {
+            Contractor contractor = (Contractor) employee;
+            contractEndDate = contractor.getContractEndDate();
+            projectName = contractor.getProjectName();
+        }
+
+        return new ImmutableEmployee(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getPhoneNumber(), employee.getHireDate(), department,
+                employee.getType(), employee.getBaseSalaryCents(), employee.calculateSalaryCents(),
+                annualLeaveDays, hoursPerWeek, hourlyRateCents, contractEndDate, projectName);
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public LocalDate getHireDate() {
+        return hireDate;
+    }
+
+    public ImmutableDepartment getDepartment() {
+        return department;
+    }
+
+    public String getDepartmentName() {
+        return department != null ? department.getDepartmentName() : "No Department";
+    }
+
+    public EmployeeType getType() {
+        return type;
+    }
+
+    public long getBaseSalaryCents() {
+        return baseSalaryCents;
+    }
+
+    /**
+     * Calculated monthly salary in cents, as calculateSalaryCents() returned it
+     */
+    public long getSalaryCents() {
+        return salaryCents;
+    }
+
+    public int getAnnualLeaveDays() {
+        return annualLeaveDays;
+    }
+
+    public int getHoursPerWeek() {
+        return hoursPerWeek;
+    }
+
+    public long getHourlyRateCents() {
+        return hourlyRateCents;
+    }
+
+    public LocalDate getContractEndDate() {
+        return contractEndDate;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableEmployee{" +
+                "employeeId=" + employeeId +
+                ", firstName='" + firstName + '\'' +
+                ", lastName='" + lastName + '\'' +
+                ", email='" + email + '\'' +
+                ", phoneNumber='" + phoneNumber + '\'' +
+                ", hireDate=" + hireDate +
+                ", department=" + (department != null ? department.getDepartmentName() : "None") +
+                ", baseSalary=" + Money.format(baseSalaryCents) +
+                ", employeeType='" + type.getDisplayName() + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,198 @@
+package com.employeemanagementsystem.model;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Open-addressing hash set of int values.
+ *
+ * Values live in one primitive array with linear probing, so there is no
+ * boxing and no per-entry object: 4-7 bytes per member instead of the ~20
+ * bytes of an Integer in a list (and ~50 in a HashSet), with O(1) add,
+ * remove and contains. Removal shifts the following probe run back instead
+ * of leaving tombstones. Not thread-safe; callers synchronize externally.
+ */
+public class IntHashSet {
+
+    private static final int FREE = 0;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] slots;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    // 0 marks a free slot, so its membership is kept outside the array
+    private boolean hasZero;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Add a value
+     *
+     * @return true if the value was not already present
+     */
+    public boolean add(int value) {
+        if (value == FREE) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+        int slot = findSlot(value);
+        if (slots[slot] == value) {
+            return false;
+        }
+        slots[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(slots.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Remove a value
+     *
+     * @return true if the value was present
+     */
+    public boolean remove(int value) {
+        if (value == FREE) {
+            if (!hasZero) {
+                return false;
+            }
+            hasZero = false;
+            size--;
+            return true;
+        }
+        int slot = findSlot(value);
+        if (slots[slot] != value) {
+            return false;
+        }
+        slots[slot] = FREE;
+        size--;
+
+        // Move later members of the probe run into the gap if it is on their path
+        int gap = slot;
+        int next = (slot + 1) & mask;
+        while (slots[next] != FREE) {
+            int home = mix(slots[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                slots[gap] = slots[next];
+                slots[next] = FREE;
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        return true;
+    }
+
+    public boolean contains(int value) {
+        if (value == FREE) {
+            return hasZero;
+        }
+        return slots[findSlot(value)] == value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Grow once so that expectedSize values fit without rehashing
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        if (capacity > slots.length) {
+            rehash(capacity);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(slots, FREE);
+        hasZero = false;
+        size = 0;
+    }
+
+    /**
+     * Visit every value in unspecified order
+     */
+    public void forEach(IntConsumer consumer) {
+        if (hasZero) {
+            consumer.accept(FREE);
+        }
+        for (int value : slots) {
+            if (value != FREE) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    /**
+     * The values in ascending order
+     */
+    public int[] toSortedArray() {
+        int[] values = new int[size];
+        int i = 0;
+        if (hasZero) {
+            values[i++] = FREE;
+        }
+        for (int value : slots) {
+            if (value != FREE) {
+                values[i++] = value;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    /**
+     * Slot holding the value, or the free slot where it would be inserted
+     */
+    private int findSlot(int value) {
+        int slot = mix(value) & mask;
+        while (slots[slot] != FREE && slots[slot] != value) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] old = slots;
+        allocate(newCapacity);
+        for (int value : old) {
+            if (value != FREE) {
+                slots[findSlot(value)] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+    }
+
+    /**
+     * Spread sequential employee ids across the table
+     */
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,113 @@
+package com.employeemanagementsystem.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+
+/**
+ * Money arithmetic on amounts held as a long number of cents.
+ *
+ * The schema stores money as DECIMAL(10,2), so salaries and payments are kept
+ * as exact cents in a primitive long instead of double or BigDecimal. All
+ * operations are static and work on primitives, so salary calculation and bulk
+ * payroll allocate nothing per operation. Every operation checks for overflow
+ * and throws ArithmeticException instead of wrapping silently.
+ *
+ * Rounding: converting from double or multiplying by a fraction rounds half
+ * away from zero, the same rule MySQL uses when it stores a DECIMAL(10,2).
+ * Doubles are converted through their shortest decimal form, so an amount
+ * typed as 1.005 rounds up like the DECIMAL it came from.
+ */
+public final class Money {
+
+    private Money() {
+    }
+
+    /**
+     * Convert a decimal amount (e.g. 1234.5) to cents, rounding half away from zero.
+     * The amount is rounded as written (1.005 gives 101 cents, 0.285 gives 29),
+     * not as its nearest binary double multiplied by 100.
+     */
+    public static long ofDouble(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new ArithmeticException("Amount out of range: " + amount);
+        }
+        try {
+            return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Amount out of range: " + amount);
+        }
+    }
+
+    /**
+     * Convert cents to a decimal amount, for display and legacy double APIs
+     */
+    public static double toDouble(long cents) {
+        return cents / 100.0;
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * Multiply an amount by a whole quantity (hours, weeks, ...)
+     */
+    public static long multiply(long cents, long quantity) {
+        return Math.multiplyExact(cents, quantity);
+    }
+
+    /**
+     * Multiply an amount by a fractional factor (e.g. 1.04 for a 4% raise)
+     */
+    public static long multiply(long cents, double factor) {
+        double result = cents * factor;
+        if (Double.isNaN(result) || Math.abs(result) >= Long.MAX_VALUE) {
+            throw new ArithmeticException("Amount out of range: " + cents + " * " + factor);
+        }
+        return roundHalfAwayFromZero(result);
+    }
+
+    /**
+     * Percentage of an amount given in basis points (100 bp = 1%)
+     */
+    public static long percent(long cents, long basisPoints) {
+        long scaled = Math.multiplyExact(cents, basisPoints);
+        long quotient = scaled / 10_000;
+        long remainder = scaled % 10_000;
+        if (Math.abs(remainder) * 2 >= 10_000) {
+            quotient += Long.signum(scaled);
+        }
+        return quotient;
+    }
+
+    /**
+     * Exact DECIMAL value for JDBC binding
+     */
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Exact cents from a DECIMAL value read through JDBC
+     */
+    public static long fromBigDecimal(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Format as a plain decimal string, e.g. "1234.50"
+     */
+    public static String format(long cents) {
+        return String.format(Locale.ROOT, "%s%d.%02d", cents < 0 ? "-" : "",
+                Math.abs(cents / 100), Math.abs(cents % 100));
+    }
+
+    private static long roundHalfAwayFromZero(double value) {
+        return value >= 0 ? (long) (value + 0.5) : -(long) (-value + 0.5);
+    }
+}
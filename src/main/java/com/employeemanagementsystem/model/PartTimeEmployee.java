@@ -8,21 +8,21 @@ import java.time.LocalDate;
  */
 public class PartTimeEmployee extends Employee {
     private int hoursPerWeek;
-    private double hourlyRate;
+    private long hourlyRateCents;
 
     public PartTimeEmployee(int employeeId, String firstName, String lastName, String email,
                             String phoneNumber, LocalDate hireDate, Department department,
                             double baseSalary, int hoursPerWeek, double hourlyRate) {
         super(employeeId, firstName, lastName, email, phoneNumber, hireDate,
-                department, baseSalary, "Part-time");
+                department, baseSalary, EmployeeType.PART_TIME);
         this.hoursPerWeek = hoursPerWeek;
-        this.hourlyRate = hourlyRate;
+        this.hourlyRateCents = Money.ofDouble(hourlyRate);
     }
 
     @Override
-    public double calculateSalary() {
+    public long calculateSalaryCents() {
         // Calculate monthly salary: hourly rate * hours per week * 4 weeks
-        return hourlyRate * hoursPerWeek * 4;
+        return Money.multiply(hourlyRateCents, hoursPerWeek * 4L);
     }
 
     @Override
@@ -36,13 +36,19 @@ public class PartTimeEmployee extends Employee {
 
     public void setHoursPerWeek(int hoursPerWeek) {
         this.hoursPerWeek = hoursPerWeek;
+        changed();
     }
 
     public double getHourlyRate() {
-        return hourlyRate;
+        return Money.toDouble(hourlyRateCents);
     }
 
     public void setHourlyRate(double hourlyRate) {
-        this.hourlyRate = hourlyRate;
+        this.hourlyRateCents = Money.ofDouble(hourlyRate);
+        changed();
+    }
+
+    public long getHourlyRateCents() {
+        return hourlyRateCents;
     }
 }
@@ -0,0 +1,112 @@
+package com.employeemanagementsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * PayrollRecord class representing a single payment row in payroll_records
+ */
+public class PayrollRecord {
+    private final int employeeId;
+    private final LocalDate paymentDate;
+    private final LocalDate payPeriod;
+    private final long amountCents;
+    private final String paymentType;
+
+    // Context at payment time, used for payroll aggregates (not a payroll_records column)
+    private final int departmentId;
+    private final EmployeeType employeeType;
+
+    public PayrollRecord(int employeeId, LocalDate paymentDate, long amountCents, String paymentType,
+                         int departmentId, EmployeeType employeeType) {
+        this.employeeId = employeeId;
+        this.paymentDate = paymentDate;
+        this.payPeriod = payPeriodOf(paymentDate);
+        this.amountCents = amountCents;
+        this.paymentType = paymentType;
+        this.departmentId = departmentId;
+        this.employeeType = employeeType;
+    }
+
+    /**
+     * Create a payment record for an employee, capturing their current department and type
+     */
+    public PayrollRecord(Employee employee, LocalDate paymentDate, long amountCents) {
+        this(employee.getEmployeeId(), paymentDate, amountCents, paymentTypeFor(employee),
+                employee.getDepartment() != null ? employee.getDepartment().getDepartmentId() : 0,
+                employee.getType());
+    }
+
+    /**
+     * The same payment with a different amount
+     */
+    public PayrollRecord withAmountCents(long amountCents) {
+        return new PayrollRecord(employeeId, paymentDate, amountCents, paymentType, departmentId, employeeType);
+    }
+
+    /**
+     * Start of the pay period containing a date. Salaries are paid monthly, so
+     * this is the first day of the month.
+     */
+    public static LocalDate payPeriodOf(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+
+    /**
+     * Payment type used for an employee, matching the sample data in payroll_records
+     */
+    public static String paymentTypeFor(Employee employee) {
+        return employee.getType() == EmployeeType.CONTRACTOR
+                ? "Project Payment"
+                : "Monthly Salary";
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public LocalDate getPaymentDate() {
+        return paymentDate;
+    }
+
+    public double getAmount() {
+        return Money.toDouble(amountCents);
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public String getPaymentType() {
+        return paymentType;
+    }
+
+    /**
+     * Start of the pay period (month) this payment settles. Together with the
+     * employee and payment type this is the idempotency key in payroll_records,
+     * so a second payment in the same month is rejected whatever the day.
+     */
+    public LocalDate getPayPeriod() {
+        return payPeriod;
+    }
+
+    /**
+     * Department the employee belonged to when paid, 0 if none
+     */
+    public int getDepartmentId() {
+        return departmentId;
+    }
+
+    public EmployeeType getEmployeeType() {
+        return employeeType;
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollRecord{" +
+                "employeeId=" + employeeId +
+                ", paymentDate=" + paymentDate +
+                ", amount=" + Money.format(amountCents) +
+                ", paymentType='" + paymentType + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+package com.employeemanagementsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * SalaryAdjustment class representing a row in salary_adjustments:
+ * an amount added to an employee's salary while it is valid
+ */
+public class SalaryAdjustment {
+
+    /**
+     * Kind of adjustment, stored by name in adjustment_type
+     */
+    public enum Type {
+        BONUS, OVERTIME, CERTIFICATION
+    }
+
+    private int adjustmentId;
+    private final int employeeId;
+    private final Type type;
+    private final long amountCents;
+    private final String description;
+    private final LocalDate validFrom;
+    private final LocalDate validTo; // null = no end date
+
+    public SalaryAdjustment(int adjustmentId, int employeeId, Type type, long amountCents,
+                            String description, LocalDate validFrom, LocalDate validTo) {
+        this.adjustmentId = adjustmentId;
+        this.employeeId = employeeId;
+        this.type = type;
+        this.amountCents = amountCents;
+        this.description = description;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+    }
+
+    /**
+     * New adjustment, not yet stored
+     */
+    public SalaryAdjustment(int employeeId, Type type, double amount, String description,
+                            LocalDate validFrom, LocalDate validTo) {
+        this(0, employeeId, type, Money.ofDouble(amount), description, validFrom, validTo);
+    }
+
+    /**
+     * True if the adjustment applies on the given date
+     */
+    public boolean isValidOn(LocalDate date) {
+        return !date.isBefore(validFrom) && (validTo == null || !date.isAfter(validTo));
+    }
+
+    public int getAdjustmentId() {
+        return adjustmentId;
+    }
+
+    public void setAdjustmentId(int adjustmentId) {
+        this.adjustmentId = adjustmentId;
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public double getAmount() {
+        return Money.toDouble(amountCents);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+
+    @Override
+    public String toString() {
+        return type + ": $" + Money.format(amountCents)
+                + (description != null ? " (" + description + ")" : "")
+                + ", valid " + validFrom + " to " + (validTo != null ? validTo : "open");
+    }
+}
@@ -1,48 +1,110 @@
 package com.employeemanagementsystem.patterns.builder;
 
+import com.employeemanagementsystem.database.IdAllocator;
 import com.employeemanagementsystem.model.*;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * BUILDER PATTERN - Employee Builder
  * Provides a flexible way to construct complex Employee objects step by step
  * Useful when an object has many parameters and you want to avoid telescoping constructors
  * This pattern improves code readability and allows optional parameters
+ *
+ * For imports and other bulk construction one builder can be reused for every
+ * row: reset() it, set the row's fields and call buildInto(). Invalid rows are
+ * recorded in getErrors() instead of throwing, so a bad row costs a string,
+ * not an exception, and the rest of the batch carries on.
  */
 public class EmployeeBuilder {
+    private static final int MAX_HOURS_PER_WEEK = 168;
+
     // Required parameters
     private int employeeId;
     private String firstName;
     private String lastName;
 
-    // Optional parameters - initialized to default values
-    private String email = "";
-    private String phoneNumber = "";
-    private LocalDate hireDate = LocalDate.now();
-    private Department department = new Department(
-            1,
-            "Human Resources",
-            "HR Manager",
-            "Building A, Floor 1"
-    );
+    // Optional parameters - reset() restores the defaults
+    private String email;
+    private String phoneNumber;
+    private LocalDate hireDate;
+    private Department department; // null = the batch's default Human Resources department
 
-    private double baseSalary = 200;
-    private String employeeType = "fulltime";
+    private double baseSalary;
+    private EmployeeType employeeType;
 
     // Type-specific parameters
-    private int annualLeaveDays = 20;
-    private int hoursPerWeek = 20;
-    private double hourlyRate = 15.0;
-    private LocalDate contractEndDate = LocalDate.now().plusYears(1);
-    private String projectName = "General Project";
+    private int annualLeaveDays;
+    private int hoursPerWeek;
+    private double hourlyRate;
+    private LocalDate contractEndDate;
+    private String projectName;
+
+    // Batch state, kept across reset()
+    private final List<String> errors = new ArrayList<>();
+    private int row;
+    private Department defaultDepartment; // created on first use, shared by the batch
 
     /**
      * Constructor with required parameters
      */
     public EmployeeBuilder(int employeeId, String firstName, String lastName) {
+        reset(employeeId, firstName, lastName);
+    }
+
+    /**
+     * Builder for a batch; call reset(id, first, last) before each row
+     */
+    public EmployeeBuilder() {
+        reset(0, null, null);
+    }
+
+    /**
+     * Constructor with required parameters; the ID is taken from the employee id sequence
+     */
+    public EmployeeBuilder(String firstName, String lastName) {
+        this(IdAllocator.employees().nextId(), firstName, lastName);
+    }
+
+    /**
+     * Start a new employee: set the required fields and restore every optional
+     * field to its default. Collected errors and the row count are kept.
+     */
+    public EmployeeBuilder reset(int employeeId, String firstName, String lastName) {
+        LocalDate today = LocalDate.now();
         this.employeeId = employeeId;
         this.firstName = firstName;
         this.lastName = lastName;
+        this.email = "";
+        this.phoneNumber = "";
+        this.hireDate = today;
+        this.department = null;
+        this.baseSalary = 200;
+        this.employeeType = EmployeeType.FULL_TIME;
+        this.annualLeaveDays = 20;
+        this.hoursPerWeek = 20;
+        this.hourlyRate = 15.0;
+        this.contractEndDate = today.plusYears(1);
+        this.projectName = "General Project";
+        return this;
+    }
+
+    /**
+     * Start a new batch: clear the collected errors, the row count and the
+     * default department, so employees of different batches never share it
+     */
+    public EmployeeBuilder startBatch() {
+        errors.clear();
+        row = 0;
+        defaultDepartment = null;
+        return this;
+    }
+
+    public EmployeeBuilder employeeId(int employeeId) {
+        this.employeeId = employeeId;
+        return this;
     }
 
     public EmployeeBuilder email(String email) {
@@ -70,8 +132,20 @@ public class EmployeeBuilder {
         return this;
     }
 
+    /**
+     * Set the type by name ("Full-time", "fulltime", ...); unknown names build a full-time employee
+     */
     public EmployeeBuilder employeeType(String employeeType) {
-        this.employeeType = employeeType.toLowerCase();
+        try {
+            this.employeeType = EmployeeType.parse(employeeType);
+        } catch (IllegalArgumentException e) {
+            this.employeeType = EmployeeType.FULL_TIME;
+        }
+        return this;
+    }
+
+    public EmployeeBuilder employeeType(EmployeeType employeeType) {
+        this.employeeType = employeeType;
         return this;
     }
 
@@ -98,70 +172,164 @@ public class EmployeeBuilder {
     public EmployeeBuilder projectName(String projectName) {
         this.projectName = projectName;
         return this;
+    }
+
+    /**
+     * Check the current fields without building
+     *
+     * @return the problems found, empty if the employee can be built
+     */
+    public List<String> validate() {
+        List<String> problems = new ArrayList<>(0);
+        collectProblems(problems, "");
+        return problems;
+    }
 
+    /**
+     * Validate the current fields and, if they are valid, add the employee to target.
+     * Otherwise each problem is added to getErrors() as "Row n: ...", where n counts
+     * the buildInto calls since startBatch(), and nothing is added to target.
+     *
+     * @return true if the employee was added
+     */
+    public boolean buildInto(List<? super Employee> target) {
+        row++;
+        if (collectProblems(errors, "Row " + row + ": ") > 0) {
+            return false;
+        }
+        target.add(build());
+        return true;
     }
+
     /**
-     * Build method - creates and returns the final Employee object
+     * Problems recorded by buildInto since startBatch()
      */
-    public Employee build() {
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
 
-        String type = employeeType.toLowerCase();
-
-        if (type.contains("full")) {
-            return new FullTimeEmployee(
-                    employeeId,
-                    firstName,
-                    lastName,
-                    email,
-                    phoneNumber,
-                    hireDate,
-                    department,
-                    baseSalary,
-                    annualLeaveDays
-            );
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    /**
+     * Append one message per problem to problems; returns the number appended
+     */
+    private int collectProblems(List<String> problems, String prefix) {
+        int before = problems.size();
+
+        if (employeeId <= 0) {
+            problems.add(prefix + "Employee ID must be positive");
+        }
+        if (firstName == null || firstName.isBlank()) {
+            problems.add(prefix + "First name is required");
+        }
+        if (lastName == null || lastName.isBlank()) {
+            problems.add(prefix + "Last name is required");
+        }
+        if (email != null && !email.isEmpty() && email.indexOf('@') < 1) {
+            problems.add(prefix + "Invalid email: " + email);
+        }
+        if (hireDate == null) {
+            problems.add(prefix + "Hire date is required");
+        }
+        if (!(baseSalary >= 0)) {
+            problems.add(prefix + "Base salary must not be negative");
+        }
+        if (employeeType == null) {
+            problems.add(prefix + "Employee type is required");
+            return problems.size() - before;
         }
 
-        if (type.contains("part")) {
-            return new PartTimeEmployee(
-                    employeeId,
-                    firstName,
-                    lastName,
-                    email,
-                    phoneNumber,
-                    hireDate,
-                    department,
-                    baseSalary,
-                    (int) hourlyRate,
-                    hoursPerWeek
-            );
+        switch (employeeType) {
+            case PART_TIME:
+                if (hoursPerWeek <= 0 || hoursPerWeek > MAX_HOURS_PER_WEEK) {
+                    problems.add(prefix + "Hours per week must be between 1 and " + MAX_HOURS_PER_WEEK);
+                }
+                if (!(hourlyRate >= 0)) {
+                    problems.add(prefix + "Hourly rate must not be negative");
+                }
+                break;
+            case CONTRACTOR:
+                if (contractEndDate != null && hireDate != null && contractEndDate.isBefore(hireDate)) {
+                    problems.add(prefix + "Contract end date is before the hire date");
+                }
+                break;
+            default:
+                if (annualLeaveDays < 0) {
+                    problems.add(prefix + "Annual leave days must not be negative");
+                }
+                break;
         }
+        return problems.size() - before;
+    }
 
-        if (type.contains("contract")) {
-            return new Contractor(
-                    employeeId,
-                    firstName,
-                    lastName,
-                    email,
-                    phoneNumber,
-                    hireDate,
-                    department,
-                    baseSalary,
-                    contractEndDate,
-                    projectName
-            );
+    /**
+     * Build method - creates and returns the final Employee object.
+     * Employees built without a department share one Human Resources department per batch.
+     *
+     * @throws IllegalArgumentException if no employee type is set (validate() reports it too)
+     */
+    public Employee build() {
+        if (employeeType == null) {
+            throw new IllegalArgumentException("Employee type is required");
+        }
+        Department department = this.department != null ? this.department : defaultDepartment();
+
+        switch (employeeType) {
+            case PART_TIME:
+                return new PartTimeEmployee(
+                        employeeId,
+                        firstName,
+                        lastName,
+                        email,
+                        phoneNumber,
+                        hireDate,
+                        department,
+                        baseSalary,
+                        hoursPerWeek,
+                        hourlyRate
+                );
+
+            case CONTRACTOR:
+                return new Contractor(
+                        employeeId,
+                        firstName,
+                        lastName,
+                        email,
+                        phoneNumber,
+                        hireDate,
+                        department,
+                        baseSalary,
+                        contractEndDate,
+                        projectName
+                );
+
+            case FULL_TIME:
+            default:
+                return new FullTimeEmployee(
+                        employeeId,
+                        firstName,
+                        lastName,
+                        email,
+                        phoneNumber,
+                        hireDate,
+                        department,
+                        baseSalary,
+                        annualLeaveDays
+                );
         }
+    }
 
-        // Default fallback: Full time
-        return new FullTimeEmployee(
-                employeeId,
-                firstName,
-                lastName,
-                email,
-                phoneNumber,
-                hireDate,
-                department,
-                baseSalary,
-                annualLeaveDays
-        );
+    private Department defaultDepartment() {
+        if (defaultDepartment == null) {
+            defaultDepartment = new Department(
+                    1,
+                    "Human Resources",
+                    "HR Manager",
+                    "Building A, Floor 1"
+            );
+        }
+        return defaultDepartment;
     }
 }
@@ -1,13 +1,14 @@
 package com.employeemanagementsystem.patterns.decorator;
 
 import com.employeemanagementsystem.model.Employee;
+import com.employeemanagementsystem.model.Money;
 
 /**
  * Decorator that adds bonus compensation to an employee's salary.
  * Implements the Decorator Pattern to dynamically add bonus functionality.
  */
 public class BonusDecorator extends EmployeeDecorator {
-    private double bonusAmount;
+    private long bonusCents;
     private String bonusReason;
 
     /**
@@ -19,7 +20,7 @@ public class BonusDecorator extends EmployeeDecorator {
      */
     public BonusDecorator(Employee employee, double bonusAmount, String bonusReason) {
         super(employee);
-        this.bonusAmount = bonusAmount;
+        this.bonusCents = Money.ofDouble(bonusAmount);
         this.bonusReason = bonusReason;
     }
 
@@ -27,13 +28,13 @@ public class BonusDecorator extends EmployeeDecorator {
      * Calculates the total salary including the bonus.
      * Uses the decorated employee's base salary and adds the bonus amount.
      *
-     * @return The base salary plus bonus amount
+     * @return The base salary plus bonus amount, in cents
      */
     @Override
-    public double calculateSalary() {
+    public long calculateSalaryCents() {
         // Get base salary from the decorated employee
-        double baseSalary = decoratedEmployee.getBaseSalary();
-        return baseSalary + bonusAmount;
+        long baseSalary = decoratedEmployee.getBaseSalaryCents();
+        return Money.add(baseSalary, bonusCents);
     }
 
     /**
@@ -43,13 +44,22 @@ public class BonusDecorator extends EmployeeDecorator {
      */
     @Override
     public String getBenefits() {
-        String baseBenefits = decoratedEmployee.getBenefits();
-        String bonusInfo = String.format("Bonus: $%.2f (%s)", bonusAmount, bonusReason);
+        return appendBenefit(decoratedEmployee.getBenefits(), benefitFragment(), separatesBenefit());
+    }
+
+    @Override
+    long salaryAdjustmentCents() {
+        return bonusCents;
+    }
 
-        if (baseBenefits == null || baseBenefits.isEmpty()) {
-            return bonusInfo;
-        }
-        return baseBenefits + ", " + bonusInfo;
+    @Override
+    boolean startsFromBaseSalary() {
+        return true;
+    }
+
+    @Override
+    String benefitFragment() {
+        return "Bonus: $" + Money.format(bonusCents) + " (" + bonusReason + ")";
     }
 
     /**
@@ -58,7 +68,7 @@ public class BonusDecorator extends EmployeeDecorator {
      * @return The bonus amount
      */
     public double getBonusAmount() {
-        return this.bonusAmount;
+        return Money.toDouble(this.bonusCents);
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.employeemanagementsystem.patterns.decorator;
 
 import com.employeemanagementsystem.model.Employee;
+import com.employeemanagementsystem.model.Money;
 
 /**
  * Concrete Decorator - Adds certification benefits
@@ -8,33 +9,41 @@ import com.employeemanagementsystem.model.Employee;
  */
 public class CertificationDecorator extends EmployeeDecorator {
     private String certificationName;
-    private double certificationAllowance;
+    private long allowanceCents;
 
     public CertificationDecorator(Employee employee, String certificationName,
                                   double certificationAllowance) {
         super(employee);
         this.certificationName = certificationName;
-        this.certificationAllowance = certificationAllowance;
+        this.allowanceCents = Money.ofDouble(certificationAllowance);
     }
 
     @Override
-    public double calculateSalary() {
-        return super.calculateSalary() + certificationAllowance;
+    public long calculateSalaryCents() {
+        return Money.add(super.calculateSalaryCents(), allowanceCents);
     }
 
     @Override
     public String getBenefits() {
-        // TODO: Add certification information to benefits
-        // Get base benefits from decorated employee
-        // Append certification name and allowance information
-        String certificationBenefit = String.format(
-                "Professional Certification: %s (Allowance: $%.2f)",
-                certificationName,
-                certificationAllowance
-        );
-        // Return the enhanced benefits string
+        // Base benefits from the decorated employee with the certification appended
+        return appendBenefit(super.getBenefits(), benefitFragment(), separatesBenefit());
+    }
+
+    @Override
+    long salaryAdjustmentCents() {
+        return allowanceCents;
+    }
 
-        return super.getBenefits() + certificationBenefit;
+    @Override
+    String benefitFragment() {
+        return "Professional Certification: " + certificationName
+                + " (Allowance: $" + Money.format(allowanceCents) + ")";
+    }
+
+    @Override
+    boolean separatesBenefit() {
+        // Appended without a separator, matching the existing benefits text
+        return false;
     }
 
     public String getCertificationName() {
@@ -42,6 +51,6 @@ public class CertificationDecorator extends EmployeeDecorator {
     }
 
     public double getCertificationAllowance() {
-        return certificationAllowance;
+        return Money.toDouble(allowanceCents);
     }
 }
@@ -0,0 +1,224 @@
+package com.employeemanagementsystem.patterns.decorator;
+
+import com.employeemanagementsystem.model.Employee;
+import com.employeemanagementsystem.model.Money;
+import com.employeemanagementsystem.model.SalaryAdjustment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A decorator chain flattened into one object.
+ *
+ * compile() walks a stack of Bonus/Overtime/Certification decorators once and
+ * keeps each layer as an entry in a compact adjustment vector (amount, whether
+ * it starts from the base salary, benefit text). calculateSalaryCents() and
+ * getBenefits() are then computed from the vector and memoized, instead of
+ * making one virtual call per layer on every table render or payroll run.
+ *
+ * The cache is keyed on the base employee's version, so any setter on the base
+ * employee invalidates it; adding or removing layers here invalidates it too.
+ * Results match the original chain, except that base-salary layers always read
+ * the base employee's current salary rather than the copy a decorator took
+ * when it was created.
+ */
+public class CompiledEmployee extends EmployeeDecorator {
+
+    private long[] adjustments = new long[4];
+    private boolean[] fromBaseSalary = new boolean[4];
+    private String[] fragments = new String[4];
+    private boolean[] separated = new boolean[4];
+    private int layers;
+
+    private boolean cached;
+    private int cachedVersion;
+    private long cachedSalaryCents;
+    private String cachedBenefits;
+
+    private CompiledEmployee(Employee base) {
+        super(base);
+    }
+
+    /**
+     * Flatten a decorated employee. An undecorated employee gives an empty chain.
+     */
+    public static CompiledEmployee compile(Employee employee) {
+        // Collect layers from the outside in, then add them inside out
+        List<EmployeeDecorator> chain = new ArrayList<>();
+        Employee current = employee;
+        while (current instanceof EmployeeDecorator && !(current instanceof CompiledEmployee)) {
+            chain.add((EmployeeDecorator) current);
+            current = ((EmployeeDecorator) current).decoratedEmployee;
+        }
+
+        CompiledEmployee compiled;
+        if (current instanceof CompiledEmployee) {
+            // Inline an already compiled chain
+            CompiledEmployee inner = (CompiledEmployee) current;
+            compiled = new CompiledEmployee(inner.decoratedEmployee);
+            for (int i = 0; i < inner.layers; i++) {
+                compiled.append(inner.adjustments[i], inner.fromBaseSalary[i], inner.fragments[i], inner.separated[i]);
+            }
+        } else {
+            compiled = new CompiledEmployee(current);
+        }
+
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            compiled.addLayer(chain.get(i));
+        }
+        return compiled;
+    }
+
+    /**
+     * Add a decorator's adjustment as the new outermost layer
+     */
+    public CompiledEmployee addLayer(EmployeeDecorator layer) {
+        if (layer instanceof CompiledEmployee) {
+            CompiledEmployee other = (CompiledEmployee) layer;
+            for (int i = 0; i < other.layers; i++) {
+                append(other.adjustments[i], other.fromBaseSalary[i], other.fragments[i], other.separated[i]);
+            }
+            return this;
+        }
+        append(layer.salaryAdjustmentCents(), layer.startsFromBaseSalary(),
+                layer.benefitFragment(), layer.separatesBenefit());
+        return this;
+    }
+
+    public CompiledEmployee addBonus(double bonusAmount, String bonusReason) {
+        return addLayer(new BonusDecorator(decoratedEmployee, bonusAmount, bonusReason));
+    }
+
+    public CompiledEmployee addOvertime(int overtimeHours, double overtimeRate) {
+        return addLayer(new OvertimeDecorator(decoratedEmployee, overtimeHours, overtimeRate));
+    }
+
+    public CompiledEmployee addCertification(String certificationName, double certificationAllowance) {
+        return addLayer(new CertificationDecorator(decoratedEmployee, certificationName, certificationAllowance));
+    }
+
+    /**
+     * Add a stored salary adjustment as the new outermost layer. Unlike the bonus
+     * and overtime decorators, stored adjustments add to the calculated salary,
+     * the way payroll pays them.
+     */
+    public CompiledEmployee addAdjustment(SalaryAdjustment adjustment) {
+        long amount = adjustment.getAmountCents();
+        switch (adjustment.getType()) {
+            case BONUS:
+                append(amount, false, "Bonus: $" + Money.format(amount)
+                        + " (" + adjustment.getDescription() + ")", true);
+                break;
+            case OVERTIME:
+                append(amount, false, "Overtime: " + adjustment.getDescription()
+                        + " ($" + Money.format(amount) + ")", true);
+                break;
+            default:
+                CertificationDecorator certification = new CertificationDecorator(
+                        decoratedEmployee, adjustment.getDescription(), adjustment.getAmount());
+                append(amount, false, certification.benefitFragment(), certification.separatesBenefit());
+                break;
+        }
+        return this;
+    }
+
+    /**
+     * Add every adjustment in order
+     */
+    public CompiledEmployee addAdjustments(List<SalaryAdjustment> adjustments) {
+        for (SalaryAdjustment adjustment : adjustments) {
+            addAdjustment(adjustment);
+        }
+        return this;
+    }
+
+    /**
+     * Remove the layer at the given position (0 = innermost)
+     */
+    public void removeLayer(int index) {
+        if (index < 0 || index >= layers) {
+            throw new IndexOutOfBoundsException("Layer " + index + " of " + layers);
+        }
+        int moved = layers - index - 1;
+        System.arraycopy(adjustments, index + 1, adjustments, index, moved);
+        System.arraycopy(fromBaseSalary, index + 1, fromBaseSalary, index, moved);
+        System.arraycopy(fragments, index + 1, fragments, index, moved);
+        System.arraycopy(separated, index + 1, separated, index, moved);
+        fragments[--layers] = null;
+        invalidate();
+    }
+
+    public int getLayerCount() {
+        return layers;
+    }
+
+    /**
+     * The undecorated employee at the bottom of the chain
+     */
+    public Employee getBaseEmployee() {
+        return decoratedEmployee;
+    }
+
+    @Override
+    public long calculateSalaryCents() {
+        refresh();
+        return cachedSalaryCents;
+    }
+
+    @Override
+    public String getBenefits() {
+        refresh();
+        return cachedBenefits;
+    }
+
+    private void append(long adjustment, boolean startsFromBase, String fragment, boolean separate) {
+        if (layers == adjustments.length) {
+            int capacity = layers * 2;
+            adjustments = Arrays.copyOf(adjustments, capacity);
+            fromBaseSalary = Arrays.copyOf(fromBaseSalary, capacity);
+            fragments = Arrays.copyOf(fragments, capacity);
+            separated = Arrays.copyOf(separated, capacity);
+        }
+        adjustments[layers] = adjustment;
+        fromBaseSalary[layers] = startsFromBase;
+        fragments[layers] = fragment;
+        separated[layers] = separate;
+        layers++;
+        invalidate();
+    }
+
+    private void invalidate() {
+        cached = false;
+        cachedBenefits = null;
+    }
+
+    /**
+     * Recompute salary and benefits if the base employee or the layers changed
+     */
+    private void refresh() {
+        Employee base = decoratedEmployee;
+        if (cached && cachedVersion == base.getVersion()) {
+            return;
+        }
+
+        // Only layers from the last base-salary layer outwards contribute
+        int restart = layers - 1;
+        while (restart >= 0 && !fromBaseSalary[restart]) {
+            restart--;
+        }
+        long salary = restart >= 0 ? base.getBaseSalaryCents() : base.calculateSalaryCents();
+        for (int i = Math.max(restart, 0); i < layers; i++) {
+            salary = Money.add(salary, adjustments[i]);
+        }
+
+        String benefits = base.getBenefits();
+        for (int i = 0; i < layers; i++) {
+            benefits = appendBenefit(benefits, fragments[i], separated[i]);
+        }
+
+        cachedSalaryCents = salary;
+        cachedBenefits = benefits;
+        cachedVersion = base.getVersion();
+        cached = true;
+    }
+}
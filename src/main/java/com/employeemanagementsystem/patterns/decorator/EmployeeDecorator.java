@@ -2,7 +2,6 @@
 package com.employeemanagementsystem.patterns.decorator;
 
 import com.employeemanagementsystem.model.Employee;
-import java.time.LocalDate;
 
 /**
  * DECORATOR PATTERN - Base Employee Decorator
@@ -25,17 +24,69 @@ public abstract class EmployeeDecorator extends Employee {
                 employee.getHireDate(),
                 employee.getDepartment(),
                 employee.getBaseSalary(),
-                employee.getEmployeeType());
+                employee.getType());
+        setBaseSalaryCents(employee.getBaseSalaryCents());
         this.decoratedEmployee = employee;
     }
 
     @Override
-    public double calculateSalary() {
-        return decoratedEmployee.calculateSalary();
+    public long calculateSalaryCents() {
+        return decoratedEmployee.calculateSalaryCents();
     }
 
     @Override
     public String getBenefits() {
         return decoratedEmployee.getBenefits();
     }
+
+    public Employee getDecoratedEmployee() {
+        return decoratedEmployee;
+    }
+
+    // ---- Layer description used by CompiledEmployee to flatten a decorator chain ----
+
+    /**
+     * Amount this layer adds to the salary, in cents
+     */
+    long salaryAdjustmentCents() {
+        return 0;
+    }
+
+    /**
+     * True if this layer computes from the decorated employee's base salary
+     * instead of its calculated salary, discarding the adjustments of inner layers
+     */
+    boolean startsFromBaseSalary() {
+        return false;
+    }
+
+    /**
+     * Text this layer appends to the benefits, or null for none
+     */
+    String benefitFragment() {
+        return null;
+    }
+
+    /**
+     * True if the fragment is separated from the inner benefits by ", "
+     */
+    boolean separatesBenefit() {
+        return true;
+    }
+
+    /**
+     * Append one layer's benefit text to the benefits of the layers inside it
+     */
+    static String appendBenefit(String innerBenefits, String fragment, boolean separate) {
+        if (fragment == null) {
+            return innerBenefits;
+        }
+        if (!separate) {
+            return innerBenefits + fragment;
+        }
+        if (innerBenefits == null || innerBenefits.isEmpty()) {
+            return fragment;
+        }
+        return innerBenefits + ", " + fragment;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.employeemanagementsystem.patterns.decorator;
 
 import com.employeemanagementsystem.model.Employee;
+import com.employeemanagementsystem.model.Money;
 
 /**
  * Decorator that adds overtime pay to an employee's salary.
@@ -8,7 +9,7 @@ import com.employeemanagementsystem.model.Employee;
  */
 public class OvertimeDecorator extends EmployeeDecorator {
     private int overtimeHours;
-    private double overtimeRate;
+    private long overtimeRateCents;
 
     /**
      * Constructs an OvertimeDecorator wrapping an employee.
@@ -20,21 +21,20 @@ public class OvertimeDecorator extends EmployeeDecorator {
     public OvertimeDecorator(Employee employee, int overtimeHours, double overtimeRate) {
         super(employee);
         this.overtimeHours = overtimeHours;
-        this.overtimeRate = overtimeRate;
+        this.overtimeRateCents = Money.ofDouble(overtimeRate);
     }
 
     /**
      * Calculates the total salary including overtime pay.
      * Uses the decorated employee's base salary and adds overtime compensation.
      *
-     * @return The base salary plus overtime pay (hours * rate)
+     * @return The base salary plus overtime pay (hours * rate), in cents
      */
     @Override
-    public double calculateSalary() {
+    public long calculateSalaryCents() {
         // Get base salary from the decorated employee
-        double baseSalary = decoratedEmployee.getBaseSalary();
-        double overtimePay = overtimeHours * overtimeRate;
-        return baseSalary + overtimePay;
+        long baseSalary = decoratedEmployee.getBaseSalaryCents();
+        return Money.add(baseSalary, salaryAdjustmentCents());
     }
 
     /**
@@ -44,14 +44,23 @@ public class OvertimeDecorator extends EmployeeDecorator {
      */
     @Override
     public String getBenefits() {
-        String baseBenefits = decoratedEmployee.getBenefits();
-        String overtimeInfo = String.format("Overtime: %d hours @ $%.2f/hr ($%.2f)",
-                overtimeHours, overtimeRate, overtimeHours * overtimeRate);
+        return appendBenefit(decoratedEmployee.getBenefits(), benefitFragment(), separatesBenefit());
+    }
+
+    @Override
+    long salaryAdjustmentCents() {
+        return Money.multiply(overtimeRateCents, overtimeHours);
+    }
 
-        if (baseBenefits == null || baseBenefits.isEmpty()) {
-            return overtimeInfo;
-        }
-        return baseBenefits + ", " + overtimeInfo;
+    @Override
+    boolean startsFromBaseSalary() {
+        return true;
+    }
+
+    @Override
+    String benefitFragment() {
+        return "Overtime: " + overtimeHours + " hours @ $" + Money.format(overtimeRateCents)
+                + "/hr ($" + Money.format(salaryAdjustmentCents()) + ")";
     }
 
     /**
@@ -69,6 +78,6 @@ public class OvertimeDecorator extends EmployeeDecorator {
      * @return The overtime rate
      */
     public double getOvertimeRate() {
-        return this.overtimeRate;
+        return Money.toDouble(this.overtimeRateCents);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.employeemanagementsystem.patterns.factory;
 
+import com.employeemanagementsystem.database.IdAllocator;
 import com.employeemanagementsystem.model.*;
 import java.time.LocalDate;
 
@@ -28,52 +29,61 @@ public class EmployeeFactory {
                                           String email, String phoneNumber, LocalDate hireDate,
                                           Department department, double baseSalary,
                                           Object additionalParam1, Object additionalParam2) {
+        // Accepts "Full-time", "fulltime", "part time", ...; throws for unknown types
+        return createEmployee(EmployeeType.parse(type), employeeId, firstName, lastName, email, phoneNumber,
+                hireDate, department, baseSalary, additionalParam1, additionalParam2);
+    }
 
-        // Convert type string to lowercase for case-insensitive comparison
-        String typeLower = type.toLowerCase();
-
-        if (typeLower.contains("full") || typeLower.equals("full-time")) {
-            // Full-time employee
-            int annualLeaveDays = 20; // Default value
-            if (additionalParam1 instanceof Integer) {
-                annualLeaveDays = (Integer) additionalParam1;
+    /**
+     * Factory method dispatching on the employee type enum
+     * @see #createEmployee(String, int, String, String, String, String, LocalDate, Department, double, Object, Object)
+     */
+    public static Employee createEmployee(EmployeeType type, int employeeId, String firstName, String lastName,
+                                          String email, String phoneNumber, LocalDate hireDate,
+                                          Department department, double baseSalary,
+                                          Object additionalParam1, Object additionalParam2) {
+        switch (type) {
+            case FULL_TIME: {
+                // Full-time employee
+                int annualLeaveDays = 20; // Default value
+                if (additionalParam1 instanceof Integer) {
+                    annualLeaveDays = (Integer) additionalParam1;
+                }
+                return new FullTimeEmployee(employeeId, firstName, lastName, email, phoneNumber,
+                        hireDate, department, baseSalary, annualLeaveDays);
             }
-            return new FullTimeEmployee(employeeId, firstName, lastName, email, phoneNumber,
-                    hireDate, department, baseSalary, annualLeaveDays);
+            case PART_TIME: {
+                // Part-time employee
+                int hoursPerWeek = 20; // Default value
+                double hourlyRate = 15.0; // Default value
 
-        } else if (typeLower.contains("part") || typeLower.equals("part-time")) {
-            // Part-time employee
-            int hoursPerWeek = 20; // Default value
-            double hourlyRate = 15.0; // Default value
+                if (additionalParam1 instanceof Integer) {
+                    hoursPerWeek = (Integer) additionalParam1;
+                }
+                if (additionalParam2 instanceof Double) {
+                    hourlyRate = (Double) additionalParam2;
+                }
 
-            if (additionalParam1 instanceof Integer) {
-                hoursPerWeek = (Integer) additionalParam1;
-            }
-            if (additionalParam2 instanceof Double) {
-                hourlyRate = (Double) additionalParam2;
+                return new PartTimeEmployee(employeeId, firstName, lastName, email, phoneNumber,
+                        hireDate, department, baseSalary, hoursPerWeek, hourlyRate);
             }
+            case CONTRACTOR: {
+                // Contractor employee
+                LocalDate contractEndDate = LocalDate.now().plusYears(1); // Default: 1 year from now
+                String projectName = "Default Project"; // Default value
 
-            return new PartTimeEmployee(employeeId, firstName, lastName, email, phoneNumber,
-                    hireDate, department, baseSalary, hoursPerWeek, hourlyRate);
-
-        } else if (typeLower.contains("contract") || typeLower.equals("contractor")) {
-            // Contractor employee
-            LocalDate contractEndDate = LocalDate.now().plusYears(1); // Default: 1 year from now
-            String projectName = "Default Project"; // Default value
+                if (additionalParam1 instanceof LocalDate) {
+                    contractEndDate = (LocalDate) additionalParam1;
+                }
+                if (additionalParam2 instanceof String) {
+                    projectName = (String) additionalParam2;
+                }
 
-            if (additionalParam1 instanceof LocalDate) {
-                contractEndDate = (LocalDate) additionalParam1;
+                return new Contractor(employeeId, firstName, lastName, email, phoneNumber,
+                        hireDate, department, baseSalary, contractEndDate, projectName);
             }
-            if (additionalParam2 instanceof String) {
-                projectName = (String) additionalParam2;
-            }
-
-            return new Contractor(employeeId, firstName, lastName, email, phoneNumber,
-                    hireDate, department, baseSalary, contractEndDate, projectName);
-
-        } else {
-            throw new IllegalArgumentException("Invalid employee type: " + type +
-                    ". Valid types are: Full-time, Part-time, Contractor");
+            default:
+                throw new IllegalArgumentException("Invalid employee type: " + type);
         }
     }
 
@@ -82,20 +92,21 @@ public class EmployeeFactory {
      */
     public static Employee createEmployee(String type, int employeeId, String firstName, String lastName,
                                           Department department) {
-        return createEmployee(type, employeeId, firstName, lastName,
+        EmployeeType employeeType = EmployeeType.parse(type);
+        return createEmployee(employeeType, employeeId, firstName, lastName,
                 firstName.toLowerCase() + "." + lastName.toLowerCase() + "@company.com",
                 "555-0100", LocalDate.now(), department, 5000.0,
-                type.toLowerCase().contains("full") ? 20 :
-                        type.toLowerCase().contains("part") ? 20 : LocalDate.now().plusYears(1),
-                type.toLowerCase().contains("part") ? 15.0 : "Default Project");
+                employeeType == EmployeeType.CONTRACTOR ? LocalDate.now().plusYears(1) : 20,
+                employeeType == EmployeeType.PART_TIME ? 15.0 : "Default Project");
     }
 
     /**
-     * Creates an employee with a randomly generated ID
+     * Creates an employee with the next free ID from the employee id sequence
+     * (the name is kept for existing callers; IDs are no longer random)
      */
     public static Employee createEmployeeWithRandomId(String type, String firstName, String lastName,
                                                       Department department) {
-        int randomId = (int)(Math.random() * 10000) + 1000;
-        return createEmployee(type, randomId, firstName, lastName, department);
+        int newId = IdAllocator.employees().nextId();
+        return createEmployee(type, newId, firstName, lastName, department);
     }
 }
\ No newline at end of file
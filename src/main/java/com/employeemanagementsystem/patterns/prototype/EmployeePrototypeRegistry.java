@@ -1,54 +1,96 @@
 package com.employeemanagementsystem.patterns.prototype;
 
+import com.employeemanagementsystem.database.DepartmentDAO;
+import com.employeemanagementsystem.database.PrototypeDAO;
 import com.employeemanagementsystem.model.*;
+import com.employeemanagementsystem.patterns.builder.EmployeeBuilder;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntSupplier;
 
 /**
  * PROTOTYPE PATTERN - Employee Prototype Registry
  * BY: SHAHD AMR
+ *
+ * Prototypes are stored in the employee_prototypes table. The in-memory
+ * registry is copy-on-write: readers use the current immutable map without
+ * locking, and every change publishes a new map, so cloning is safe from any
+ * thread. Departments are resolved from the departments table (the department
+ * directory) rather than created per clone.
  */
 public class EmployeePrototypeRegistry {
-    private static Map<String, Employee> prototypes = new HashMap<>();
+    private static volatile Map<String, Employee> prototypes = Collections.emptyMap();
+    private static volatile Map<String, Department> departmentsByName = Collections.emptyMap();
+
+    private static final PrototypeDAO prototypeDAO = new PrototypeDAO();
+    private static final DepartmentDAO departmentDAO = new DepartmentDAO();
 
     /**
      * Initialize prototypes - called once when app starts
+     * Loads the stored prototypes and the department directory
      */
-    public static void initializePrototypes() {
-        Department generalDept = new Department(0, "General", "TBD", "TBD");
-
-        // Create Full-time prototype
-        FullTimeEmployee fullTime = new FullTimeEmployee(
-                0, "Prototype", "FullTime", "prototype@company.com", "000-000-0000",
-                LocalDate.now(), generalDept, 5000.0, 20
-        );
+    public static synchronized void initializePrototypes() {
+        Map<String, Department> directory = new HashMap<>();
+        for (Department department : departmentDAO.getAllDepartments()) {
+            directory.put(department.getDepartmentName().toLowerCase(), department);
+        }
+        departmentsByName = Collections.unmodifiableMap(directory);
 
-        // Create Part-time prototype
-        PartTimeEmployee partTime = new PartTimeEmployee(
-                0, "Prototype", "PartTime", "prototype@company.com", "000-000-0000",
-                LocalDate.now(), generalDept, 3000.0, 20, 15.0
-        );
+        Map<String, Employee> loaded = prototypeDAO.getAllPrototypes();
+        if (loaded.isEmpty()) {
+            // Database unavailable: fall back to the built-in prototypes for this session
+            loaded = defaultPrototypes();
+        }
+        for (Employee prototype : loaded.values()) {
+            if (prototype.getDepartment() != null) {
+                prototype.setDepartment(directory.getOrDefault(
+                        prototype.getDepartment().getDepartmentName().toLowerCase(), prototype.getDepartment()));
+            }
+        }
+        prototypes = Collections.unmodifiableMap(loaded);
 
-        // Create Contractor prototype
-        Contractor contractor = new Contractor(
-                0, "Prototype", "Contractor", "prototype@company.com", "000-000-0000",
-                LocalDate.now(), generalDept, 7000.0, LocalDate.now().plusYears(1), "General Project"
-        );
+        System.out.println("✓ Prototype Registry initialized!");
+    }
 
-        // Add to registry
-        prototypes.put("fulltime", fullTime);
-        prototypes.put("parttime", partTime);
-        prototypes.put("contractor", contractor);
+    private static Map<String, Employee> defaultPrototypes() {
+        Map<String, Employee> defaults = new HashMap<>();
+        LocalDate today = LocalDate.now();
 
-        System.out.println("✓ Prototype Registry initialized!");
+        defaults.put("fulltime", new FullTimeEmployee(
+                0, "Prototype", "FullTime", "prototype@company.com", "000-000-0000",
+                today, null, 5000.0, 20
+        ));
+        defaults.put("parttime", new PartTimeEmployee(
+                0, "Prototype", "PartTime", "prototype@company.com", "000-000-0000",
+                today, null, 3000.0, 20, 15.0
+        ));
+        defaults.put("contractor", new Contractor(
+                0, "Prototype", "Contractor", "prototype@company.com", "000-000-0000",
+                today, null, 7000.0, today.plusYears(1), "General Project"
+        ));
+        return defaults;
     }
 
     /**
-     * Add a prototype to registry
+     * Add a prototype to registry and store it in the database
+     * The registry keeps its own copy, so later changes to the argument do not leak in
+     *
+     * @return false if the prototype could not be stored (it is still used for this session)
      */
-    public static void addPrototype(String key, Employee prototype) {
-        prototypes.put(key, prototype);
+    public static synchronized boolean addPrototype(String key, Employee prototype) {
+        Employee copy = prototype.clone();
+        boolean saved = prototypeDAO.savePrototype(key, copy);
+
+        Map<String, Employee> updated = new HashMap<>(prototypes);
+        updated.put(key, copy);
+        prototypes = Collections.unmodifiableMap(updated);
+        return saved;
     }
 
     /**
@@ -64,28 +106,141 @@ public class EmployeePrototypeRegistry {
 
     /**
      * Clone and customize with new values
+     *
+     * @return null if the prototype or the department does not exist
      */
     public static Employee cloneAndCustomize(String prototypeKey, int newId,
                                              String firstName, String lastName,
                                              String email, String department) {
-        // Get clone
-        Employee clone = getPrototype(prototypeKey);
-        if (clone == null) {
+        Employee prototype = prototypes.get(prototypeKey);
+        Department dept = resolveDepartment(department);
+        if (prototype == null || dept == null) {
             return null;
         }
+        return customize(prototype, newId, firstName, lastName, email, dept, LocalDate.now());
+    }
+
+    /**
+     * Stamp out one employee per name from a prototype, all in the same department.
+     * The prototype and department are looked up once for the whole cohort, and the
+     * result can go straight to EmployeeDAO.insertEmployees.
+     *
+     * The cohort is built as one EmployeeBuilder batch seeded from the prototype's
+     * fields, so a bad row (e.g. a name without a last name) is skipped and described
+     * in errors instead of producing an invalid employee.
+     *
+     * @param names  "First Last" (the last word is the last name) or "First,Last"
+     * @param ids    supplies a new employee id for each clone
+     * @param errors receives one "Row n: ..." message per problem in a skipped row
+     * @return the valid clones in name order, or null if the prototype or department does not exist
+     */
+    public static List<Employee> cloneAndCustomizeAll(String prototypeKey, String department,
+                                                      List<String> names, IntSupplier ids,
+                                                      List<String> errors) {
+        Employee prototype = prototypes.get(prototypeKey);
+        Department dept = resolveDepartment(department);
+        if (prototype == null || dept == null) {
+            return null;
+        }
+
+        LocalDate hireDate = LocalDate.now();
+        EmployeeBuilder builder = new EmployeeBuilder().startBatch();
+        List<Employee> clones = new ArrayList<>(names.size());
+        for (String name : names) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int split = trimmed.indexOf(',');
+            if (split < 0) {
+                split = trimmed.lastIndexOf(' ');
+            }
+            String firstName = split < 0 ? trimmed : trimmed.substring(0, split).trim();
+            String lastName = split < 0 ? "" : trimmed.substring(split + 1).trim();
+            String email = (firstName + "." + lastName).toLowerCase().replaceAll("[^a-z0-9.]", "")
+                    + "@company.com";
+
+            builder.reset(ids.getAsInt(), firstName, lastName)
+                    .email(email)
+                    .phoneNumber(prototype.getPhoneNumber())
+                    .hireDate(hireDate)
+                    .department(dept)
+                    .baseSalary(prototype.getBaseSalary())
+                    .employeeType(prototype.getType());
+            copyTypeFields(prototype, builder, hireDate);
+            builder.buildInto(clones);
+        }
+        errors.addAll(builder.getErrors());
+        return clones;
+    }
 
-        // Customize
+    /**
+     * Copy the prototype's type-specific fields to the builder; a contractor keeps
+     * its contract length, counted from the new hire date
+     */
+    private static void copyTypeFields(Employee prototype, EmployeeBuilder builder, LocalDate hireDate) {
+        if (prototype instanceof FullTimeEmployee) {
+            builder.annualLeaveDays(((FullTimeEmployee) prototype).getAnnualLeaveDays());
+        } else if (prototype instanceof PartTimeEmployee) {
+            PartTimeEmployee partTime = (PartTimeEmployee) prototype;
+            builder.hoursPerWeek(partTime.getHoursPerWeek())
+                    .hourlyRate(partTime.getHourlyRate());
+        } else if (prototype instanceof Contractor) {
+            Contractor contractor = (Contractor) prototype;
+            if (contractor.getContractEndDate() != null) {
+                long days = ChronoUnit.DAYS.between(contractor.getHireDate(), contractor.getContractEndDate());
+                builder.contractEndDate(hireDate.plusDays(days));
+            } else {
+                builder.contractEndDate(null);
+            }
+            builder.projectName(contractor.getProjectName());
+        }
+    }
+
+    private static Employee customize(Employee prototype, int newId, String firstName, String lastName,
+                                      String email, Department department, LocalDate hireDate) {
+        Employee clone = prototype.clone();
         clone.setEmployeeId(newId);
         clone.setFirstName(firstName);
         clone.setLastName(lastName);
         clone.setEmail(email);
+        clone.setDepartment(department);
 
-        Department dept = new Department(0, department, "Manager", "Location");
-        clone.setDepartment(dept);
-
+        // Keep a contractor's contract length, counted from the new hire date
+        if (clone instanceof Contractor && ((Contractor) clone).getContractEndDate() != null) {
+            long days = ChronoUnit.DAYS.between(clone.getHireDate(), ((Contractor) clone).getContractEndDate());
+            ((Contractor) clone).setContractEndDate(hireDate.plusDays(days));
+        }
+        clone.setHireDate(hireDate);
         return clone;
     }
 
+    /**
+     * Find a department by name (case-insensitive) in the directory; departments
+     * created since start-up are looked up in the database and added to it
+     */
+    public static Department resolveDepartment(String name) {
+        if (name == null) {
+            return null;
+        }
+        Department department = departmentsByName.get(name.toLowerCase());
+        if (department != null) {
+            return department;
+        }
+
+        Optional<Department> found = departmentDAO.getDepartmentByNameIgnoreCase(name);
+        if (found.isEmpty()) {
+            System.err.println("Unknown department: " + name);
+            return null;
+        }
+        synchronized (EmployeePrototypeRegistry.class) {
+            Map<String, Department> updated = new HashMap<>(departmentsByName);
+            updated.putIfAbsent(name.toLowerCase(), found.get());
+            departmentsByName = Collections.unmodifiableMap(updated);
+            return departmentsByName.get(name.toLowerCase());
+        }
+    }
+
     /**
      * Check if prototype exists
      */
@@ -103,15 +258,20 @@ public class EmployeePrototypeRegistry {
     /**
      * Remove a prototype
      */
-    public static void removePrototype(String key) {
-        prototypes.remove(key);
+    public static synchronized void removePrototype(String key) {
+        prototypeDAO.deletePrototype(key);
+
+        Map<String, Employee> updated = new HashMap<>(prototypes);
+        updated.remove(key);
+        prototypes = Collections.unmodifiableMap(updated);
     }
 
     /**
      * Clear all prototypes
+     * Only the in-memory registry; stored prototypes come back on the next start
      */
-    public static void clearPrototypes() {
-        prototypes.clear();
+    public static synchronized void clearPrototypes() {
+        prototypes = Collections.emptyMap();
         System.out.println("All prototypes cleared.");
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@ package com.employeemanagementsystem.patterns.singleton;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -16,7 +18,7 @@ public class DatabaseConnection {
 
     private static final String DB_NAME = "employee_management_db";
     private static final String URL_WITHOUT_DB = "jdbc:mysql://localhost:3306/?allowPublicKeyRetrieval=true&useSSL=false&serverTimezone=UTC";
-    private static final String URL_WITH_DB = "jdbc:mysql://localhost:3306/" + DB_NAME + "?allowPublicKeyRetrieval=true&useSSL=false&serverTimezone=UTC";
+    private static final String URL_WITH_DB = "jdbc:mysql://localhost:3306/" + DB_NAME + "?allowPublicKeyRetrieval=true&useSSL=false&serverTimezone=UTC&rewriteBatchedStatements=true";
     private static final String USERNAME = "root";
     private static final String PASSWORD = "khemu123456";
 
@@ -74,7 +76,20 @@ public class DatabaseConnection {
                 )
             """);
 
+            // Employee type lookup; codes match EmployeeType and are never renumbered
+            stmt.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS employee_types (
+                    type_code TINYINT PRIMARY KEY,
+                    type_name VARCHAR(20) NOT NULL UNIQUE
+                )
+            """);
+            stmt.executeUpdate("""
+                INSERT IGNORE INTO employee_types (type_code, type_name)
+                VALUES (0, 'Full-time'), (1, 'Part-time'), (2, 'Contractor')
+            """);
+
             // Employees table - UPDATED with department_id as foreign key
+            // Subtype attributes are NULL for the other employee types
             stmt.executeUpdate("""
                 CREATE TABLE IF NOT EXISTS employees (
                     employee_id INT PRIMARY KEY,
@@ -85,12 +100,23 @@ public class DatabaseConnection {
                     hire_date DATE NOT NULL,
                     department_id INT,
                     base_salary DECIMAL(10,2) NOT NULL,
-                    employee_type VARCHAR(20) NOT NULL,
-                    FOREIGN KEY (department_id) REFERENCES departments(department_id) ON DELETE SET NULL
+                    employee_type TINYINT NOT NULL,
+                    annual_leave_days INT,
+                    hours_per_week INT,
+                    hourly_rate DECIMAL(10,2),
+                    contract_end_date DATE,
+                    project_name VARCHAR(100),
+                    KEY idx_employees_last_name (last_name),
+                    KEY idx_employees_salary (base_salary),
+                    FOREIGN KEY (department_id) REFERENCES departments(department_id) ON DELETE SET NULL,
+                    FOREIGN KEY (employee_type) REFERENCES employee_types(type_code)
                 )
             """);
+            migrateEmployeeSubtypes(stmt);
+            migrateEmployeeSortIndexes(stmt);
 
             // Payroll records table
+            // The unique key makes payments idempotent across restarts and application instances
             stmt.executeUpdate("""
                 CREATE TABLE IF NOT EXISTS payroll_records (
                     record_id INT AUTO_INCREMENT PRIMARY KEY,
@@ -98,9 +124,65 @@ public class DatabaseConnection {
                     payment_date DATE NOT NULL,
                     amount DECIMAL(10,2) NOT NULL,
                     payment_type VARCHAR(50),
+                    pay_period DATE NOT NULL,
+                    batch_id VARCHAR(36),
+                    UNIQUE KEY uk_payroll_month (employee_id, pay_period, payment_type),
+                    KEY idx_payroll_batch (batch_id),
                     FOREIGN KEY (employee_id) REFERENCES employees(employee_id) ON DELETE CASCADE
                 )
             """);
+            migratePayrollRecords(stmt);
+            migratePayrollPeriods(stmt);
+
+            // Running payroll totals per (department, employee type, month)
+            stmt.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS payroll_aggregates (
+                    department_id INT NOT NULL,
+                    employee_type TINYINT NOT NULL,
+                    period_start DATE NOT NULL,
+                    payment_count INT NOT NULL,
+                    total_amount DECIMAL(14,2) NOT NULL,
+                    PRIMARY KEY (department_id, employee_type, period_start)
+                )
+            """);
+
+            // Compensation adjustments (bonus, overtime, certification) with a validity period
+            // valid_to NULL means the adjustment has no end date
+            // paid_period: pay period (month) of the last payment that included it, NULL if never paid
+            stmt.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS salary_adjustments (
+                    adjustment_id INT AUTO_INCREMENT PRIMARY KEY,
+                    employee_id INT NOT NULL,
+                    adjustment_type VARCHAR(20) NOT NULL,
+                    amount DECIMAL(10,2) NOT NULL,
+                    description VARCHAR(100),
+                    valid_from DATE NOT NULL,
+                    valid_to DATE,
+                    paid_period DATE NULL,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    KEY idx_adjustment_validity (employee_id, valid_from, valid_to),
+                    FOREIGN KEY (employee_id) REFERENCES employees(employee_id) ON DELETE CASCADE
+                )
+            """);
+            migrateAdjustmentPaidPeriod(stmt);
+
+            // Prototype registry; subtype columns are NULL for other employee types
+            // contract_months: contract length counted from the clone's hire date
+            stmt.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS employee_prototypes (
+                    prototype_key VARCHAR(50) PRIMARY KEY,
+                    employee_type TINYINT NOT NULL,
+                    department_id INT,
+                    base_salary DECIMAL(10,2) NOT NULL,
+                    annual_leave_days INT,
+                    hours_per_week INT,
+                    hourly_rate DECIMAL(10,2),
+                    contract_months INT,
+                    project_name VARCHAR(100),
+                    FOREIGN KEY (department_id) REFERENCES departments(department_id) ON DELETE SET NULL
+                )
+            """);
+            migrateEmployeeTypes(stmt);
 
             // Insert sample departments if table is empty
             stmt.executeUpdate("""
@@ -116,58 +198,104 @@ public class DatabaseConnection {
 
             // Insert sample employees if table is empty - UPDATED with department_id
             stmt.executeUpdate("""
-                INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, hire_date, department_id, base_salary, employee_type)
-                SELECT 1, 'John', 'Doe', 'john.doe@company.com', '123-456-7890', '2023-01-15', 1, 6000.00, 'Full-time'
+                INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, hire_date, department_id, base_salary, employee_type,
+                                       annual_leave_days, hours_per_week, hourly_rate, contract_end_date, project_name)
+                SELECT 1, 'John', 'Doe', 'john.doe@company.com', '123-456-7890', '2023-01-15', 1, 6000.00, 0, 20, NULL, NULL, NULL, NULL
                 FROM DUAL WHERE NOT EXISTS (SELECT * FROM employees WHERE employee_id = 1);
             """);
             stmt.executeUpdate("""
-                INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, hire_date, department_id, base_salary, employee_type)
-                SELECT 2, 'Jane', 'Smith', 'jane.smith@company.com', '123-456-7891', '2023-02-20', 1, 5500.00, 'Full-time'
+                INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, hire_date, department_id, base_salary, employee_type,
+                                       annual_leave_days, hours_per_week, hourly_rate, contract_end_date, project_name)
+                SELECT 2, 'Jane', 'Smith', 'jane.smith@company.com', '123-456-7891', '2023-02-20', 1, 5500.00, 0, 20, NULL, NULL, NULL, NULL
                 FROM DUAL WHERE NOT EXISTS (SELECT * FROM employees WHERE employee_id = 2);
             """);
             stmt.executeUpdate("""
-                INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, hire_date, department_id, base_salary, employee_type)
-                SELECT 3, 'Bob', 'Johnson', 'bob.j@company.com', '123-456-7892', '2023-03-10', 1, 5800.00, 'Full-time'
+                INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, hire_date, department_id, base_salary, employee_type,
+                                       annual_leave_days, hours_per_week, hourly_rate, contract_end_date, project_name)
+                SELECT 3, 'Bob', 'Johnson', 'bob.j@company.com', '123-456-7892', '2023-03-10', 1, 5800.00, 0, 20, NULL, NULL, NULL, NULL
                 FROM DUAL WHERE NOT EXISTS (SELECT * FROM employees WHERE employee_id = 3);
             """);
             stmt.executeUpdate("""
-                INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, hire_date, department_id, base_salary, employee_type)
-                SELECT 4, 'Alice', 'Williams', 'alice.w@company.com', '123-456-7893', '2023-04-05', 2, 3200.00, 'Part-time'
+                INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, hire_date, department_id, base_salary, employee_type,
+                                       annual_leave_days, hours_per_week, hourly_rate, contract_end_date, project_name)
+                SELECT 4, 'Alice', 'Williams', 'alice.w@company.com', '123-456-7893', '2023-04-05', 2, 3200.00, 1, NULL, 40, 20.00, NULL, NULL
                 FROM DUAL WHERE NOT EXISTS (SELECT * FROM employees WHERE employee_id = 4);
             """);
             stmt.executeUpdate("""
-                INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, hire_date, department_id, base_salary, employee_type)
-                SELECT 5, 'Charlie', 'Brown', 'charlie.b@company.com', '123-456-7894', '2023-05-12', 2, 7000.00, 'Contractor'
+                INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, hire_date, department_id, base_salary, employee_type,
+                                       annual_leave_days, hours_per_week, hourly_rate, contract_end_date, project_name)
+                SELECT 5, 'Charlie', 'Brown', 'charlie.b@company.com', '123-456-7894', '2023-05-12', 2, 7000.00, 2, NULL, NULL, NULL, '2027-05-12', 'Payroll Migration'
                 FROM DUAL WHERE NOT EXISTS (SELECT * FROM employees WHERE employee_id = 5);
             """);
 
             // Insert sample payroll records if table is empty
             stmt.executeUpdate("""
-                INSERT INTO payroll_records (employee_id, payment_date, amount, payment_type)
-                SELECT 1, '2024-01-31', 6000.00, 'Monthly Salary'
+                INSERT INTO payroll_records (employee_id, payment_date, amount, payment_type, pay_period)
+                SELECT 1, '2024-01-31', 6000.00, 'Monthly Salary', '2024-01-01'
                 FROM DUAL WHERE NOT EXISTS (SELECT * FROM payroll_records WHERE employee_id = 1);
             """);
             stmt.executeUpdate("""
-                INSERT INTO payroll_records (employee_id, payment_date, amount, payment_type)
-                SELECT 2, '2024-01-31', 5500.00, 'Monthly Salary'
+                INSERT INTO payroll_records (employee_id, payment_date, amount, payment_type, pay_period)
+                SELECT 2, '2024-01-31', 5500.00, 'Monthly Salary', '2024-01-01'
                 FROM DUAL WHERE NOT EXISTS (SELECT * FROM payroll_records WHERE employee_id = 2);
             """);
             stmt.executeUpdate("""
-                INSERT INTO payroll_records (employee_id, payment_date, amount, payment_type)
-                SELECT 3, '2024-01-31', 5800.00, 'Monthly Salary'
+                INSERT INTO payroll_records (employee_id, payment_date, amount, payment_type, pay_period)
+                SELECT 3, '2024-01-31', 5800.00, 'Monthly Salary', '2024-01-01'
                 FROM DUAL WHERE NOT EXISTS (SELECT * FROM payroll_records WHERE employee_id = 3);
             """);
             stmt.executeUpdate("""
-                INSERT INTO payroll_records (employee_id, payment_date, amount, payment_type)
-                SELECT 4, '2024-01-31', 3200.00, 'Monthly Salary'
+                INSERT INTO payroll_records (employee_id, payment_date, amount, payment_type, pay_period)
+                SELECT 4, '2024-01-31', 3200.00, 'Monthly Salary', '2024-01-01'
                 FROM DUAL WHERE NOT EXISTS (SELECT * FROM payroll_records WHERE employee_id = 4);
             """);
             stmt.executeUpdate("""
-                INSERT INTO payroll_records (employee_id, payment_date, amount, payment_type)
-                SELECT 5, '2024-01-31', 7000.00, 'Project Payment'
+                INSERT INTO payroll_records (employee_id, payment_date, amount, payment_type, pay_period)
+                SELECT 5, '2024-01-31', 7000.00, 'Project Payment', '2024-01-01'
                 FROM DUAL WHERE NOT EXISTS (SELECT * FROM payroll_records WHERE employee_id = 5);
             """);
 
+            // Default prototypes, only if the registry has never been filled
+            stmt.executeUpdate("""
+                INSERT INTO employee_prototypes (prototype_key, employee_type, department_id, base_salary,
+                                                 annual_leave_days, hours_per_week, hourly_rate,
+                                                 contract_months, project_name)
+                SELECT * FROM (
+                    SELECT 'fulltime' AS prototype_key, 0 AS employee_type, NULL AS department_id,
+                           5000.00 AS base_salary, 20 AS annual_leave_days, NULL AS hours_per_week,
+                           NULL AS hourly_rate, NULL AS contract_months, NULL AS project_name
+                    UNION ALL SELECT 'parttime', 1, NULL, 3000.00, NULL, 20, 15.00, NULL, NULL
+                    UNION ALL SELECT 'contractor', 2, NULL, 7000.00, NULL, NULL, NULL, 12, 'General Project'
+                ) AS defaults
+                WHERE NOT EXISTS (SELECT * FROM employee_prototypes);
+            """);
+
+            // Id sequences for block-reserving id allocation, started after the highest existing ids
+            stmt.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS id_sequences (
+                    sequence_name VARCHAR(50) PRIMARY KEY,
+                    next_value BIGINT NOT NULL
+                )
+            """);
+            stmt.executeUpdate("""
+                INSERT IGNORE INTO id_sequences (sequence_name, next_value)
+                SELECT 'employees', COALESCE(MAX(employee_id), 0) + 1 FROM employees
+            """);
+            stmt.executeUpdate("""
+                INSERT IGNORE INTO id_sequences (sequence_name, next_value)
+                SELECT 'departments', COALESCE(MAX(department_id), 0) + 1 FROM departments
+            """);
+
+            // Build aggregates from existing payroll records if they have never been built
+            stmt.executeUpdate("""
+                INSERT INTO payroll_aggregates (department_id, employee_type, period_start, payment_count, total_amount)
+                SELECT COALESCE(e.department_id, 0), e.employee_type, DATE_FORMAT(r.payment_date, '%Y-%m-01'),
+                       COUNT(*), SUM(r.amount)
+                FROM payroll_records r JOIN employees e ON r.employee_id = e.employee_id
+                WHERE NOT EXISTS (SELECT * FROM payroll_aggregates)
+                GROUP BY COALESCE(e.department_id, 0), e.employee_type, DATE_FORMAT(r.payment_date, '%Y-%m-01');
+            """);
+
             System.out.println("Tables and sample data checked/created successfully!");
 
         } catch (SQLException e) {
@@ -176,6 +304,201 @@ public class DatabaseConnection {
         }
     }
 
+    /**
+     * Adds the idempotency columns to payroll_records created before they existed
+     */
+    private void migratePayrollRecords(Statement stmt) throws SQLException {
+        if (columnExists("payroll_records", "pay_period")) {
+            return;
+        }
+        stmt.executeUpdate("ALTER TABLE payroll_records ADD COLUMN pay_period DATE NULL, ADD COLUMN batch_id VARCHAR(36) NULL");
+        stmt.executeUpdate("UPDATE payroll_records SET pay_period = payment_date");
+        stmt.executeUpdate("""
+            ALTER TABLE payroll_records
+                MODIFY pay_period DATE NOT NULL,
+                ADD UNIQUE KEY uk_payroll_period (employee_id, pay_period, payment_type),
+                ADD KEY idx_payroll_batch (batch_id)
+        """);
+        System.out.println("payroll_records migrated with idempotency key.");
+    }
+
+    /**
+     * Moves pay_period from the payment date to the first day of its month, so the
+     * unique key blocks a second salary in the same month and not only on the same
+     * day. The renamed key (uk_payroll_month) marks the table as migrated.
+     *
+     * Months already paid twice keep both rows: the earliest payment of the month
+     * gets the month as its period, later ones keep their payment date. The old key
+     * allowed one row per day, so these never collide.
+     */
+    private void migratePayrollPeriods(Statement stmt) throws SQLException {
+        if (indexExists("payroll_records", "uk_payroll_month")) {
+            return;
+        }
+        stmt.executeUpdate("ALTER TABLE payroll_records DROP INDEX uk_payroll_period");
+        stmt.executeUpdate("""
+            UPDATE payroll_records p
+            JOIN (
+                SELECT employee_id, payment_type, MIN(payment_date) AS first_date
+                FROM payroll_records
+                GROUP BY employee_id, payment_type, DATE_FORMAT(payment_date, '%Y-%m-01')
+            ) f ON p.employee_id = f.employee_id AND p.payment_type <=> f.payment_type
+                AND p.payment_date = f.first_date
+            SET p.pay_period = DATE_FORMAT(p.payment_date, '%Y-%m-01')
+        """);
+        stmt.executeUpdate("ALTER TABLE payroll_records ADD UNIQUE KEY uk_payroll_month (employee_id, pay_period, payment_type)");
+        System.out.println("payroll_records migrated to monthly pay periods.");
+    }
+
+    /**
+     * Adds paid_period to salary_adjustments created before it existed. Existing
+     * adjustments start unpaid; an employee already paid this month is not paid
+     * again until next month, so they are never added twice.
+     */
+    private void migrateAdjustmentPaidPeriod(Statement stmt) throws SQLException {
+        if (columnExists("salary_adjustments", "paid_period")) {
+            return;
+        }
+        stmt.executeUpdate("ALTER TABLE salary_adjustments ADD COLUMN paid_period DATE NULL");
+        System.out.println("salary_adjustments migrated with paid period.");
+    }
+
+    /**
+     * Adds the subtype attribute columns to employees created before they existed.
+     * Existing rows get the values the application used to assume for every employee.
+     */
+    private void migrateEmployeeSubtypes(Statement stmt) throws SQLException {
+        if (columnExists("employees", "annual_leave_days")) {
+            return;
+        }
+        stmt.executeUpdate("""
+            ALTER TABLE employees
+                ADD COLUMN annual_leave_days INT NULL,
+                ADD COLUMN hours_per_week INT NULL,
+                ADD COLUMN hourly_rate DECIMAL(10,2) NULL,
+                ADD COLUMN contract_end_date DATE NULL,
+                ADD COLUMN project_name VARCHAR(100) NULL
+        """);
+        stmt.executeUpdate("UPDATE employees SET annual_leave_days = 20 WHERE employee_type = 'Full-time'");
+        stmt.executeUpdate("UPDATE employees SET hours_per_week = 20, hourly_rate = 15.00 WHERE employee_type = 'Part-time'");
+        stmt.executeUpdate("""
+            UPDATE employees SET contract_end_date = DATE_ADD(CURDATE(), INTERVAL 1 YEAR), project_name = 'Project'
+            WHERE employee_type = 'Contractor'
+        """);
+        System.out.println("employees migrated with subtype attributes.");
+    }
+
+    /**
+     * Adds the indexes used by the employee table's server-side sorting and
+     * last name filter to employees created before they existed. InnoDB appends
+     * the primary key to every secondary index, so they also cover the
+     * employee_id tie-breaker of each page query.
+     */
+    private void migrateEmployeeSortIndexes(Statement stmt) throws SQLException {
+        if (!indexExists("employees", "idx_employees_last_name")) {
+            stmt.executeUpdate("ALTER TABLE employees ADD KEY idx_employees_last_name (last_name)");
+            System.out.println("employees migrated with last name index.");
+        }
+        if (!indexExists("employees", "idx_employees_salary")) {
+            stmt.executeUpdate("ALTER TABLE employees ADD KEY idx_employees_salary (base_salary)");
+            System.out.println("employees migrated with salary index.");
+        }
+    }
+
+    // Old employee type name -> EmployeeType code, accepting the legacy spellings
+    private static final String TYPE_CODE_SQL = "CASE " +
+            "WHEN LOWER(employee_type) IN ('full-time', 'fulltime') THEN 0 " +
+            "WHEN LOWER(employee_type) IN ('part-time', 'parttime') THEN 1 " +
+            "ELSE 2 END";
+
+    /**
+     * Converts employee_type from the old type names to EmployeeType codes in
+     * every table that stores it. Runs after migrateEmployeeSubtypes, whose
+     * backfill still matches on the names.
+     */
+    private void migrateEmployeeTypes(Statement stmt) throws SQLException {
+        for (String table : new String[]{"employees", "payroll_aggregates", "employee_prototypes"}) {
+            if (!"varchar".equalsIgnoreCase(columnType(table, "employee_type"))) {
+                continue;
+            }
+            if (table.equals("payroll_aggregates")) {
+                rebuildPayrollAggregatesWithTypeCodes(stmt);
+                System.out.println(table + " migrated to employee type codes.");
+                continue;
+            }
+            stmt.executeUpdate("UPDATE " + table + " SET employee_type = " + TYPE_CODE_SQL);
+            stmt.executeUpdate("ALTER TABLE " + table + " MODIFY employee_type TINYINT NOT NULL");
+            if (table.equals("employees")) {
+                stmt.executeUpdate("ALTER TABLE employees ADD FOREIGN KEY (employee_type) REFERENCES employee_types(type_code)");
+            }
+            System.out.println(table + " migrated to employee type codes.");
+        }
+    }
+
+    /**
+     * employee_type is part of the payroll_aggregates key, and legacy spellings
+     * ("Full-time", "fulltime") map to the same code, so converting in place
+     * could collide on the primary key. Instead the groups are merged into a
+     * fresh table, which then replaces the old one.
+     */
+    private void rebuildPayrollAggregatesWithTypeCodes(Statement stmt) throws SQLException {
+        stmt.executeUpdate("DROP TABLE IF EXISTS payroll_aggregates_new");
+        stmt.executeUpdate("CREATE TABLE payroll_aggregates_new LIKE payroll_aggregates");
+        stmt.executeUpdate("ALTER TABLE payroll_aggregates_new MODIFY employee_type TINYINT NOT NULL");
+        stmt.executeUpdate("""
+            INSERT INTO payroll_aggregates_new
+                (department_id, employee_type, period_start, payment_count, total_amount)
+            SELECT department_id, type_code, period_start, SUM(payment_count), SUM(total_amount)
+            FROM (
+                SELECT department_id, %s AS type_code, period_start, payment_count, total_amount
+                FROM payroll_aggregates
+            ) coded
+            GROUP BY department_id, type_code, period_start
+        """.formatted(TYPE_CODE_SQL));
+        stmt.executeUpdate("RENAME TABLE payroll_aggregates TO payroll_aggregates_old, " +
+                "payroll_aggregates_new TO payroll_aggregates");
+        stmt.executeUpdate("DROP TABLE payroll_aggregates_old");
+    }
+
+    private String columnType(String table, String column) throws SQLException {
+        String sql = "SELECT DATA_TYPE FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, DB_NAME);
+            pstmt.setString(2, table);
+            pstmt.setString(3, column);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private boolean indexExists(String table, String index) throws SQLException {
+        String sql = "SELECT 1 FROM information_schema.STATISTICS " +
+                "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND INDEX_NAME = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, DB_NAME);
+            pstmt.setString(2, table);
+            pstmt.setString(3, index);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private boolean columnExists(String table, String column) throws SQLException {
+        String sql = "SELECT 1 FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, DB_NAME);
+            pstmt.setString(2, table);
+            pstmt.setString(3, column);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
     public static synchronized DatabaseConnection getInstance() {
         if (instance == null) {
             instance = new DatabaseConnection();
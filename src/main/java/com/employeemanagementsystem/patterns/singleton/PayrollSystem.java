@@ -1,9 +1,27 @@
 package com.employeemanagementsystem.patterns.singleton;
 
+import com.employeemanagementsystem.database.EmployeeDAO;
+import com.employeemanagementsystem.database.PayrollDAO;
 import com.employeemanagementsystem.model.Employee;
+import com.employeemanagementsystem.model.EmployeeType;
+import com.employeemanagementsystem.model.Money;
+import com.employeemanagementsystem.model.PayrollRecord;
+import com.employeemanagementsystem.payroll.IntLongHashMap;
+import com.employeemanagementsystem.payroll.PayrollAggregate;
+import com.employeemanagementsystem.payroll.PayrollAggregateKey;
+import com.employeemanagementsystem.payroll.PayrollBatchRun;
+import com.employeemanagementsystem.payroll.PayrollJournal;
+import com.employeemanagementsystem.payroll.PayrollRunSummary;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * SINGLETON PATTERN - Payroll System
@@ -13,22 +31,72 @@ public class PayrollSystem {
 
     private static PayrollSystem instance;
 
-    // Employee ID -> Total Paid Amount (all-time)
-    private final Map<Integer, Double> totalPayrollRecords;
+    private final PayrollDAO payrollDAO = new PayrollDAO();
 
-    // Employee ID -> Last processed date
-    private final Map<Integer, LocalDate> lastProcessedDate;
+    private static final long NEVER_PROCESSED = Long.MIN_VALUE;
+
+    // Employee ID -> Total Paid Amount in cents (all-time)
+    private final IntLongHashMap totalPaidCents;
+
+    // Employee ID -> Last processed date as epoch day
+    // (compared by pay period, so it also answers "paid this month?")
+    private final IntLongHashMap lastProcessedDay;
 
     // Employee ID -> Map<Date, Amount> for daily payroll history
     private final Map<Integer, Map<LocalDate, Double>> payrollHistory;
 
+    // Payment date -> (Employee ID -> Amount in cents), so date reports only touch days in range
+    private final NavigableMap<LocalDate, IntLongHashMap> paymentsByDate;
+
+    // (Department, Employee type, Month) -> running count and total, seeded from payroll_aggregates
+    private final Map<PayrollAggregateKey, PayrollAggregate> aggregates;
+
+    // Local append-only log of payments; null if the journal could not be opened
+    private PayrollJournal journal;
+
     private PayrollSystem() {
-        this.totalPayrollRecords = new HashMap<>();
-        this.lastProcessedDate = new HashMap<>();
+        this.totalPaidCents = new IntLongHashMap();
+        this.lastProcessedDay = new IntLongHashMap();
         this.payrollHistory = new HashMap<>();
+        this.paymentsByDate = new TreeMap<>();
+        this.aggregates = new HashMap<>();
+        for (PayrollAggregate aggregate : payrollDAO.getAggregates()) {
+            aggregates.put(aggregate.getKey(), aggregate);
+        }
+        openJournal();
         System.out.println("Payroll System initialized.");
     }
 
+    /**
+     * Rebuild totals from the last checkpoint plus the journal tail
+     */
+    private void openJournal() {
+        try {
+            long start = System.nanoTime();
+            journal = PayrollJournal.open(PayrollJournal.defaultDirectory());
+            int replayed = journal.recover(totalPaidCents, lastProcessedDay, paymentsByDate, this::applyPayment);
+            rebuildHistory();
+            System.out.println("Payroll journal recovered: " + totalPaidCents.size() + " employees, "
+                    + replayed + " payments replayed in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (IOException e) {
+            System.err.println("Payroll journal unavailable, totals will not survive a restart: " + e.getMessage());
+            journal = null;
+        }
+    }
+
+    /**
+     * Derive the per-employee history from the per-date index, which also holds
+     * the payments restored from the checkpoint
+     */
+    private void rebuildHistory() {
+        payrollHistory.clear();
+        for (Map.Entry<LocalDate, IntLongHashMap> day : paymentsByDate.entrySet()) {
+            LocalDate date = day.getKey();
+            day.getValue().forEach((empId, cents) ->
+                    payrollHistory.computeIfAbsent(empId, id -> new HashMap<>()).put(date, Money.toDouble(cents)));
+        }
+    }
+
     /**
      * Singleton access method
      */
@@ -40,115 +108,465 @@ public class PayrollSystem {
     }
 
     /**
-     * Process payroll for an employee
+     * Checkpoint and close the payroll journal if the payroll system was ever started
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            instance.closeJournal();
+        }
+    }
+
+    /**
+     * Process payroll for an employee.
+     * The payment is stored in payroll_records first; the database key on
+     * (employee, pay period, payment type) rejects a second payment even if it
+     * was made by another instance or before a restart. Salary adjustments
+     * due today and not yet paid this month are added when it is stored,
+     * including ones recorded after last month's payment.
+     *
+     * @return true if the employee was paid, false if already paid or not stored
      */
-    public void processPayroll(Employee employee) {
+    public boolean processPayroll(Employee employee) {
         int empId = employee.getEmployeeId();
         LocalDate today = LocalDate.now();
 
-        // Prevent double payroll in a single day
-        if (today.equals(lastProcessedDate.get(empId))) {
-            System.out.println("Payroll already processed for " + employee.getFirstName() + " today.");
-            return;
+        // Prevent double payroll in a single pay period
+        if (isProcessedOn(empId, today)) {
+            System.out.println("Payroll already processed for " + employee.getFirstName() + " this month.");
+            return false;
         }
 
-        double salary = employee.calculateSalary();
+        List<PayrollRecord> inserted = payrollDAO.insertPayrollRecords(
+                List.of(new PayrollRecord(employee, today, employee.calculateSalaryCents())));
 
-        // Update all-time total
-        totalPayrollRecords.put(empId,
-                totalPayrollRecords.getOrDefault(empId, 0.0) + salary
-        );
+        if (inserted == null) {
+            System.err.println("Payroll could not be stored for " + employee.getFirstName() + ".");
+            return false;
+        }
+        if (inserted.isEmpty()) {
+            markProcessed(empId, today);
+            System.out.println("Payroll already processed for " + employee.getFirstName() + " this month.");
+            return false;
+        }
 
-        // Update daily history
-        payrollHistory.putIfAbsent(empId, new HashMap<>());
-        payrollHistory.get(empId).put(today, salary);
-
-        // Update last processed date
-        lastProcessedDate.put(empId, today);
+        recordPayments(inserted);
 
         System.out.println(
                 "Payroll processed for " + employee.getFirstName() + " " + employee.getLastName()
-                        + " | Paid: $" + salary
+                        + " | Paid: $" + Money.format(inserted.get(0).getAmountCents())
                         + " | Date: " + today
         );
+        return true;
+    }
+
+    /**
+     * Process payroll for every employee matching the filter (e.g. one department).
+     * Blocks until the run completes; use newBatchRun() for progress and cancellation.
+     */
+    public PayrollRunSummary processAll(Predicate<Employee> filter) {
+        return newBatchRun(filter).run();
+    }
+
+    /**
+     * Create a bulk payroll run that streams employees from the database,
+     * prices them in parallel and stores payments in batched transactions.
+     */
+    public PayrollBatchRun newBatchRun(Predicate<Employee> filter) {
+        return newBatchRun(EmployeeDAO.ANY_DEPARTMENT, filter);
+    }
+
+    /**
+     * Create a bulk payroll run over one department, selected in the query
+     * so the other departments' employees are never read
+     */
+    public PayrollBatchRun newBatchRun(int departmentId, Predicate<Employee> filter) {
+        return new PayrollBatchRun(this, new EmployeeDAO(), new PayrollDAO(), departmentId, filter);
+    }
+
+    /**
+     * Check whether an employee has already been paid for the pay period (month) containing the date
+     */
+    public synchronized boolean isProcessedOn(int employeeId, LocalDate date) {
+        long lastDay = lastProcessedDay.get(employeeId, NEVER_PROCESSED);
+        return lastDay != NEVER_PROCESSED
+                && PayrollRecord.payPeriodOf(LocalDate.ofEpochDay(lastDay)).equals(PayrollRecord.payPeriodOf(date));
+    }
+
+    /**
+     * Record payments that were already stored by a bulk run
+     */
+    public synchronized void recordPayments(List<PayrollRecord> records) {
+        for (PayrollRecord record : records) {
+            recordPayment(record);
+        }
+    }
+
+    /**
+     * Remember a payment made elsewhere so later checks stay in memory
+     */
+    private synchronized void markProcessed(int employeeId, LocalDate date) {
+        lastProcessedDay.put(employeeId, date.toEpochDay());
+    }
+
+    private void recordPayment(PayrollRecord record) {
+        int empId = record.getEmployeeId();
+        LocalDate date = record.getPaymentDate();
+        long cents = record.getAmountCents();
+
+        applyPayment(empId, date.toEpochDay(), cents);
+
+        // Update running aggregates
+        PayrollAggregateKey key = new PayrollAggregateKey(record.getDepartmentId(),
+                record.getEmployeeType(), YearMonth.from(date));
+        aggregates.computeIfAbsent(key, k -> new PayrollAggregate(k, 0, 0)).add(1, cents);
+
+        appendToJournal(empId, date.toEpochDay(), cents);
+    }
+
+    /**
+     * Apply a payment to totals and history; also used to replay the journal
+     */
+    private void applyPayment(int empId, long epochDay, long cents) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+
+        // Update all-time total; Money.add throws on overflow instead of wrapping
+        totalPaidCents.put(empId, Money.add(totalPaidCents.get(empId, 0), cents));
+
+        // Update daily history (several payment types can fall on one day)
+        IntLongHashMap paidOnDate = paymentsByDate.computeIfAbsent(date, day -> new IntLongHashMap());
+        long paidThatDay = Money.add(paidOnDate.get(empId, 0), cents);
+        paidOnDate.put(empId, paidThatDay);
+        payrollHistory.computeIfAbsent(empId, id -> new HashMap<>()).put(date, Money.toDouble(paidThatDay));
+
+        // Update last processed date
+        lastProcessedDay.put(empId, epochDay);
+    }
+
+    private void appendToJournal(int empId, long epochDay, long cents) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.append(empId, epochDay, cents);
+            if (journal.isCheckpointDue()) {
+                journal.checkpoint(totalPaidCents, lastProcessedDay, paymentsByDate);
+            }
+        } catch (IOException e) {
+            System.err.println("Payroll journal write failed, journal disabled: " + e.getMessage());
+            journal = null;
+        }
+    }
+
+    private synchronized void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close(totalPaidCents, lastProcessedDay, paymentsByDate);
+            System.out.println("Payroll journal checkpointed and closed.");
+        } catch (IOException e) {
+            System.err.println("Error closing payroll journal: " + e.getMessage());
+        }
+        journal = null;
     }
 
     /**
      * Get total amount paid to an employee (all-time)
      */
-    public double getTotalPaid(int employeeId) {
-        return totalPayrollRecords.getOrDefault(employeeId, 0.0);
+    public synchronized double getTotalPaid(int employeeId) {
+        return Money.toDouble(totalPaidCents.get(employeeId, 0L));
+    }
+
+    /**
+     * Get total amount paid to an employee (all-time), in cents
+     */
+    public synchronized long getTotalPaidCents(int employeeId) {
+        return totalPaidCents.get(employeeId, 0L);
     }
 
     /**
      * Generate payroll report (all-time totals)
      */
-    public String generatePayrollReport() {
-        if (totalPayrollRecords.isEmpty()) {
-            return "No payroll has been processed yet.";
+    public synchronized String generatePayrollReport() {
+        StringWriter report = new StringWriter();
+        try {
+            writePayrollReport(report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return report.toString();
+    }
 
-        StringBuilder report = new StringBuilder();
-        report.append("===== Payroll Report =====\n");
+    /**
+     * Generate a payroll report that lists at most maxRows employees,
+     * small enough to show on screen however many employees were paid
+     */
+    public synchronized String generatePayrollSummary(int maxRows) {
+        StringWriter report = new StringWriter();
+        try {
+            writePayrollReport(report, maxRows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return report.toString();
+    }
 
-        double totalAll = 0.0;
+    /**
+     * Stream the payroll report (all-time totals) to a writer, one row at a time
+     */
+    public synchronized void writePayrollReport(Writer out) throws IOException {
+        writePayrollReport(out, Integer.MAX_VALUE);
+    }
 
-        for (Map.Entry<Integer, Double> entry : totalPayrollRecords.entrySet()) {
-            report.append("Employee ID: ").append(entry.getKey())
-                    .append(" | Total Paid: $").append(entry.getValue()).append("\n");
-            totalAll += entry.getValue();
+    /**
+     * Stream the payroll report, listing at most maxRows employees
+     */
+    public synchronized void writePayrollReport(Writer out, int maxRows) throws IOException {
+        if (totalPaidCents.isEmpty()) {
+            out.write("No payroll has been processed yet.");
+            return;
         }
 
-        report.append("--------------------------\n");
-        report.append("Total Payroll Paid: $").append(totalAll).append("\n");
+        out.write("===== Payroll Report =====\n");
 
-        return report.toString();
+        long totalAll = writeRows(out, totalPaidCents, " | Total Paid: $", maxRows);
+
+        out.write("--------------------------\n");
+        out.write("Total Payroll Paid: $" + Money.format(totalAll) + "\n");
+    }
+
+    /**
+     * Stream all-time totals as CSV (employee_id,total_paid)
+     */
+    public synchronized void writePayrollCsv(Writer out) throws IOException {
+        out.write("employee_id,total_paid\n");
+        try {
+            totalPaidCents.forEach((empId, cents) -> {
+                try {
+                    out.write(empId + "," + Money.format(cents) + "\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     /**
      * Generate daily payroll report
      */
-    public String generateDailyReport(LocalDate date) {
-        StringBuilder report = new StringBuilder();
-        report.append("===== Daily Payroll Report: ").append(date).append(" =====\n");
-
-        double total = 0.0;
-        for (Map.Entry<Integer, Map<LocalDate, Double>> entry : payrollHistory.entrySet()) {
-            Double amount = entry.getValue().get(date);
-            if (amount != null) {
-                report.append("Employee ID: ").append(entry.getKey())
-                        .append(" | Paid: $").append(amount).append("\n");
-                total += amount;
-            }
+    public synchronized String generateDailyReport(LocalDate date) {
+        StringWriter report = new StringWriter();
+        try {
+            writeDailyReport(date, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return report.toString();
+    }
 
-        report.append("--------------------------\n");
-        report.append("Total Payroll Paid Today: $").append(total).append("\n");
+    /**
+     * Stream the daily payroll report to a writer
+     */
+    public synchronized void writeDailyReport(LocalDate date, Writer out) throws IOException {
+        out.write("===== Daily Payroll Report: " + date + " =====\n");
+
+        long total = writePayments(out, paymentsByDate.get(date));
+
+        out.write("--------------------------\n");
+        out.write("Total Payroll Paid Today: $" + Money.format(total) + "\n");
+    }
 
+    /**
+     * Generate payroll report for every payment between two dates (inclusive)
+     */
+    public synchronized String generateRangeReport(LocalDate from, LocalDate to) {
+        StringWriter report = new StringWriter();
+        try {
+            writeRangeReport(from, to, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
         return report.toString();
     }
 
     /**
-     * Clear all payroll data
+     * Stream the payroll report for a date range (inclusive) to a writer
+     */
+    public synchronized void writeRangeReport(LocalDate from, LocalDate to, Writer out) throws IOException {
+        out.write("===== Payroll Report: " + from + " to " + to + " =====\n");
+
+        long total = 0L;
+        for (Map.Entry<LocalDate, IntLongHashMap> day : paymentsByDate.subMap(from, true, to, true).entrySet()) {
+            out.write("--- " + day.getKey() + " ---\n");
+            total = Money.add(total, writePayments(out, day.getValue()));
+        }
+
+        out.write("--------------------------\n");
+        out.write("Total Payroll Paid: $" + Money.format(total) + "\n");
+    }
+
+    /**
+     * Generate payroll report for the Monday-to-Sunday week containing the date
+     */
+    public String generateWeeklyReport(LocalDate dayInWeek) {
+        LocalDate monday = dayInWeek.minusDays(dayInWeek.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+        return generateRangeReport(monday, monday.plusDays(6));
+    }
+
+    /**
+     * Generate payroll report for a calendar month
+     */
+    public String generateMonthlyReport(YearMonth month) {
+        return generateRangeReport(month.atDay(1), month.atEndOfMonth());
+    }
+
+    /**
+     * Write one line per payment in a day bucket
+     *
+     * @return total of the bucket in cents
      */
-    public void clearRecords() {
-        totalPayrollRecords.clear();
-        lastProcessedDate.clear();
+    private long writePayments(Writer out, IntLongHashMap payments) throws IOException {
+        if (payments == null) {
+            return 0L;
+        }
+        return writeRows(out, payments, " | Paid: $", Integer.MAX_VALUE);
+    }
+
+    /**
+     * Write "Employee ID: x | label amount" rows, stopping after maxRows lines
+     * but still totalling every entry
+     *
+     * @return total of all entries in cents
+     */
+    private long writeRows(Writer out, IntLongHashMap rows, String label, int maxRows) throws IOException {
+        long[] total = {0L};
+        int[] written = {0};
+        try {
+            rows.forEach((empId, cents) -> {
+                total[0] = Money.add(total[0], cents);
+                if (written[0] < maxRows) {
+                    written[0]++;
+                    try {
+                        out.write("Employee ID: " + empId + label + Money.format(cents) + "\n");
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (rows.size() > written[0]) {
+            out.write("... " + (rows.size() - written[0]) + " more employees (export the report to see all rows)\n");
+        }
+        return total[0];
+    }
+
+    /**
+     * Aggregates for every group whose month falls between from and to (inclusive)
+     */
+    public synchronized List<PayrollAggregate> getAggregates(YearMonth from, YearMonth to) {
+        List<PayrollAggregate> result = new ArrayList<>();
+        for (PayrollAggregate aggregate : aggregates.values()) {
+            YearMonth period = aggregate.getKey().getPeriod();
+            if (!period.isBefore(from) && !period.isAfter(to)) {
+                result.add(aggregate.copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Total paid per department ID between two months (inclusive)
+     */
+    public synchronized Map<Integer, Double> getTotalsByDepartment(YearMonth from, YearMonth to) {
+        Map<Integer, Long> cents = new HashMap<>();
+        for (PayrollAggregate aggregate : getAggregates(from, to)) {
+            cents.merge(aggregate.getKey().getDepartmentId(), aggregate.getTotalCents(), Long::sum);
+        }
+        Map<Integer, Double> totals = new HashMap<>();
+        cents.forEach((departmentId, total) -> totals.put(departmentId, Money.toDouble(total)));
+        return totals;
+    }
+
+    /**
+     * Total paid per employee type between two months (inclusive)
+     */
+    public synchronized Map<String, Double> getTotalsByEmployeeType(YearMonth from, YearMonth to) {
+        // Indexed by type code
+        long[] cents = new long[EmployeeType.COUNT];
+        boolean[] seen = new boolean[EmployeeType.COUNT];
+        for (PayrollAggregate aggregate : getAggregates(from, to)) {
+            int code = aggregate.getKey().getEmployeeType().getCode();
+            cents[code] = Money.add(cents[code], aggregate.getTotalCents());
+            seen[code] = true;
+        }
+        Map<String, Double> totals = new HashMap<>();
+        for (int code = 0; code < EmployeeType.COUNT; code++) {
+            if (seen[code]) {
+                totals.put(EmployeeType.fromCode(code).getDisplayName(), Money.toDouble(cents[code]));
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Total paid per month between two months (inclusive), in month order
+     */
+    public synchronized SortedMap<YearMonth, Double> getTotalsByPeriod(YearMonth from, YearMonth to) {
+        SortedMap<YearMonth, Long> cents = new TreeMap<>();
+        for (PayrollAggregate aggregate : getAggregates(from, to)) {
+            cents.merge(aggregate.getKey().getPeriod(), aggregate.getTotalCents(), Long::sum);
+        }
+        SortedMap<YearMonth, Double> totals = new TreeMap<>();
+        cents.forEach((period, total) -> totals.put(period, Money.toDouble(total)));
+        return totals;
+    }
+
+    /**
+     * Clear all payroll data: payroll_records and payroll_aggregates in the
+     * database, the in-memory totals and reports, and the journal.
+     * Employees can be paid again for the current month afterwards.
+     *
+     * @return true if cleared, false if the database could not be cleared
+     *         (nothing is changed then)
+     */
+    public synchronized boolean clearRecords() {
+        if (!payrollDAO.deleteAllPayrollData()) {
+            return false;
+        }
+        totalPaidCents.clear();
+        lastProcessedDay.clear();
         payrollHistory.clear();
+        paymentsByDate.clear();
+        aggregates.clear();
+        if (journal != null) {
+            try {
+                // An empty checkpoint keeps the cleared state across restarts
+                journal.checkpoint(totalPaidCents, lastProcessedDay, paymentsByDate);
+            } catch (IOException e) {
+                System.err.println("Error checkpointing payroll journal: " + e.getMessage());
+            }
+        }
         System.out.println("Payroll records cleared.");
+        return true;
     }
 
     /**
      * Retrieve all-time payroll records
      */
-    public Map<Integer, Double> getAllRecords() {
-        return new HashMap<>(totalPayrollRecords);
+    public synchronized Map<Integer, Double> getAllRecords() {
+        Map<Integer, Double> copy = new HashMap<>(Math.max(16, totalPaidCents.size() * 2));
+        totalPaidCents.forEach((empId, cents) -> copy.put(empId, Money.toDouble(cents)));
+        return copy;
     }
 
     /**
      * Retrieve daily payroll records
      */
-    public Map<Integer, Map<LocalDate, Double>> getPayrollHistory() {
+    public synchronized Map<Integer, Map<LocalDate, Double>> getPayrollHistory() {
         Map<Integer, Map<LocalDate, Double>> copy = new HashMap<>();
         payrollHistory.forEach((id, history) -> copy.put(id, new HashMap<>(history)));
         return copy;
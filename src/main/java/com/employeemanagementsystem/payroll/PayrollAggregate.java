@@ -0,0 +1,76 @@
+package com.employeemanagementsystem.payroll;
+
+import com.employeemanagementsystem.model.Money;
+import com.employeemanagementsystem.model.PayrollRecord;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running payment count and total for one (department, employee type, month) group.
+ * Kept up to date on every payment so cost dashboards are O(number of groups).
+ */
+public class PayrollAggregate {
+    private final PayrollAggregateKey key;
+    private long paymentCount;
+    private long totalCents;
+
+    public PayrollAggregate(PayrollAggregateKey key, long paymentCount, long totalCents) {
+        this.key = key;
+        this.paymentCount = paymentCount;
+        this.totalCents = totalCents;
+    }
+
+    /**
+     * Group a set of payments into per-key aggregate deltas
+     */
+    public static Map<PayrollAggregateKey, PayrollAggregate> summarize(Collection<PayrollRecord> records) {
+        Map<PayrollAggregateKey, PayrollAggregate> deltas = new HashMap<>();
+        for (PayrollRecord record : records) {
+            PayrollAggregateKey key = new PayrollAggregateKey(record.getDepartmentId(),
+                    record.getEmployeeType(), YearMonth.from(record.getPaymentDate()));
+            deltas.computeIfAbsent(key, k -> new PayrollAggregate(k, 0, 0))
+                    .add(1, record.getAmountCents());
+        }
+        return deltas;
+    }
+
+    /**
+     * Add payments to this group
+     */
+    public void add(long payments, long cents) {
+        paymentCount += payments;
+        totalCents = Money.add(totalCents, cents);
+    }
+
+    public PayrollAggregate copy() {
+        return new PayrollAggregate(key, paymentCount, totalCents);
+    }
+
+    public PayrollAggregateKey getKey() {
+        return key;
+    }
+
+    public long getPaymentCount() {
+        return paymentCount;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public double getTotalAmount() {
+        return Money.toDouble(totalCents);
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollAggregate{" +
+                "key=" + key +
+                ", paymentCount=" + paymentCount +
+                ", totalAmount=" + getTotalAmount() +
+                '}';
+    }
+}
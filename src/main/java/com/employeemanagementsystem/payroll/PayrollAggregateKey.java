@@ -0,0 +1,63 @@
+package com.employeemanagementsystem.payroll;
+
+import com.employeemanagementsystem.model.EmployeeType;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Grouping key for payroll aggregates: department, employee type and month
+ */
+public final class PayrollAggregateKey {
+    private final int departmentId;
+    private final EmployeeType employeeType;
+    private final YearMonth period;
+
+    public PayrollAggregateKey(int departmentId, EmployeeType employeeType, YearMonth period) {
+        this.departmentId = departmentId;
+        this.employeeType = employeeType;
+        this.period = period;
+    }
+
+    /**
+     * Department ID, 0 for employees without a department
+     */
+    public int getDepartmentId() {
+        return departmentId;
+    }
+
+    public EmployeeType getEmployeeType() {
+        return employeeType;
+    }
+
+    public YearMonth getPeriod() {
+        return period;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PayrollAggregateKey)) {
+            return false;
+        }
+        PayrollAggregateKey other = (PayrollAggregateKey) o;
+        return departmentId == other.departmentId
+                && employeeType == other.employeeType
+                && period.equals(other.period);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(departmentId, employeeType, period);
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollAggregateKey{" +
+                "departmentId=" + departmentId +
+                ", employeeType='" + employeeType + '\'' +
+                ", period=" + period +
+                '}';
+    }
+}
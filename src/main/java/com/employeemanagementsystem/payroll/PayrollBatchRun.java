@@ -0,0 +1,234 @@
+package com.employeemanagementsystem.payroll;
+
+import com.employeemanagementsystem.database.EmployeeDAO;
+import com.employeemanagementsystem.database.PayrollDAO;
+import com.employeemanagementsystem.model.Employee;
+import com.employeemanagementsystem.model.Money;
+import com.employeemanagementsystem.model.PayrollRecord;
+import com.employeemanagementsystem.patterns.singleton.PayrollSystem;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A single bulk payroll run over all employees, or one department's, matching a filter.
+ *
+ * Employees are streamed from the database (the department is selected in
+ * SQL) and grouped into chunks. Each chunk
+ * is priced on a worker thread and written to payroll_records in one batched
+ * transaction. At most a few chunks are in flight at once so memory stays
+ * bounded however large the employee table is. Unpaid salary adjustments are
+ * added by PayrollDAO in each chunk's transaction, one query per chunk, so no
+ * decorator objects are built.
+ *
+ * A run is single-use: create it, optionally attach a progress listener, call
+ * run() and use cancel() from any thread to stop it early. If the employees
+ * cannot be read to the end, the summary is marked aborted.
+ */
+public class PayrollBatchRun {
+
+    /**
+     * Receives running counts after every chunk. Called from worker threads.
+     */
+    public interface ProgressListener {
+        void onProgress(int processed, int skipped, int failed);
+    }
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final PayrollSystem payrollSystem;
+    private final EmployeeDAO employeeDAO;
+    private final PayrollDAO payrollDAO;
+    private final int departmentId;
+    private final Predicate<Employee> filter;
+    private final int parallelism;
+
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final LongAdder totalPaidCents = new LongAdder();
+
+    private volatile ProgressListener progressListener = (p, s, f) -> { };
+    private volatile boolean cancelled;
+    private boolean started;
+
+    private List<Employee> pendingChunk = new ArrayList<>(CHUNK_SIZE);
+
+    /**
+     * @param departmentId only pay this department, or EmployeeDAO.ANY_DEPARTMENT for all
+     * @param filter which of the streamed employees to pay, or null for all of them
+     */
+    public PayrollBatchRun(PayrollSystem payrollSystem, EmployeeDAO employeeDAO,
+                           PayrollDAO payrollDAO, int departmentId, Predicate<Employee> filter) {
+        this.payrollSystem = payrollSystem;
+        this.employeeDAO = employeeDAO;
+        this.payrollDAO = payrollDAO;
+        this.departmentId = departmentId;
+        this.filter = filter != null ? filter : employee -> true;
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener != null ? progressListener : (p, s, f) -> { };
+    }
+
+    /**
+     * Request the run to stop. Chunks already being written are allowed to
+     * finish so no transaction is left half-applied.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Execute the run on the calling thread, blocking until every chunk is written.
+     */
+    public PayrollRunSummary run() {
+        synchronized (this) {
+            if (started) {
+                throw new IllegalStateException("Payroll run has already been started");
+            }
+            started = true;
+        }
+
+        long start = System.nanoTime();
+        LocalDate payDate = LocalDate.now();
+
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "payroll-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        String error = null;
+
+        try {
+            boolean readAll = employeeDAO.forEachEmployee(departmentId, employee -> {
+                if (cancelled) {
+                    return false;
+                }
+                if (filter.test(employee)) {
+                    pendingChunk.add(employee);
+                    if (pendingChunk.size() == CHUNK_SIZE) {
+                        return dispatch(workers, inFlight, payDate);
+                    }
+                }
+                return true;
+            });
+            if (!readAll) {
+                // The employees read so far are still paid; the rest were never seen
+                error = "employees could not be read from the database";
+            }
+
+            if (!cancelled && !pendingChunk.isEmpty()) {
+                dispatch(workers, inFlight, payDate);
+            }
+        } finally {
+            workers.shutdown();
+            try {
+                workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                cancelled = true;
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        PayrollRunSummary summary = new PayrollRunSummary(processed.get(), skipped.get(),
+                failed.get(), totalPaidCents.sum(), elapsedMillis, cancelled, error);
+        System.out.println(summary);
+        return summary;
+    }
+
+    /**
+     * Hand the pending chunk to a worker, waiting if too many chunks are in flight.
+     *
+     * @return false if the run was interrupted while waiting
+     */
+    private boolean dispatch(ExecutorService workers, Semaphore inFlight, LocalDate payDate) {
+        List<Employee> chunk = pendingChunk;
+        pendingChunk = new ArrayList<>(CHUNK_SIZE);
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            cancelled = true;
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        workers.execute(() -> {
+            try {
+                processChunk(chunk, payDate);
+            } catch (RuntimeException e) {
+                // Nothing of the chunk was counted yet, so it all counts as failed
+                failed.addAndGet(chunk.size());
+                System.err.println("Payroll chunk of " + chunk.size() + " employees failed: " + e);
+                e.printStackTrace();
+            } finally {
+                inFlight.release();
+            }
+            reportProgress();
+        });
+        return true;
+    }
+
+    /**
+     * Price, store and record one chunk. The shared counters are only updated
+     * at the very end, so a chunk that throws is never partly counted.
+     */
+    private void processChunk(List<Employee> chunk, LocalDate payDate) {
+        if (cancelled) {
+            return;
+        }
+
+        List<PayrollRecord> records = new ArrayList<>(chunk.size());
+        int alreadyPaid = 0;
+
+        for (Employee employee : chunk) {
+            // Cheap in-memory check first; the database key catches payments made elsewhere
+            if (payrollSystem.isProcessedOn(employee.getEmployeeId(), payDate)) {
+                alreadyPaid++;
+                continue;
+            }
+            records.add(new PayrollRecord(employee, payDate, employee.calculateSalaryCents()));
+        }
+
+        List<PayrollRecord> inserted = payrollDAO.insertPayrollRecords(records);
+        if (inserted == null) {
+            skipped.addAndGet(alreadyPaid);
+            failed.addAndGet(records.size());
+            return;
+        }
+
+        payrollSystem.recordPayments(inserted);
+        long chunkTotal = 0L;
+        for (PayrollRecord record : inserted) {
+            chunkTotal = Money.add(chunkTotal, record.getAmountCents());
+        }
+
+        processed.addAndGet(inserted.size());
+        skipped.addAndGet(alreadyPaid + records.size() - inserted.size());
+        totalPaidCents.add(chunkTotal);
+    }
+
+    private void reportProgress() {
+        try {
+            progressListener.onProgress(processed.get(), skipped.get(), failed.get());
+        } catch (RuntimeException e) {
+            System.err.println("Payroll progress listener failed: " + e);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.employeemanagementsystem.payroll;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.zip.CRC32;
+
+/**
+ * Local append-only journal of payroll payments, written through a memory-mapped file.
+ *
+ * Every payment is one fixed-size 32 byte record:
+ * <pre>
+ *   0  int  employee id
+ *   4  int  payment date (epoch day)
+ *   8  long amount in cents
+ *  16  long sequence number
+ *  24  int  CRC32 of bytes 0..23
+ *  28  int  record marker
+ * </pre>
+ * A checkpoint file periodically stores the per-employee totals and last payment
+ * day, and the per-date payment history used by daily, weekly and range reports,
+ * together with the last sequence it covers. On startup the checkpoint is
+ * loaded and only journal records with a higher sequence are replayed, so
+ * recovery time depends on the tail, not on the full payment history. After a
+ * checkpoint the journal is rewound and reused; stale records left behind carry
+ * older sequence numbers and are ignored.
+ *
+ * Records reach the OS page cache as soon as they are appended, so they survive
+ * an application crash; force() at checkpoints makes them survive a power loss.
+ * The journal file is locked while open, so a second application instance
+ * cannot open it and overwrite records or checkpoints.
+ * Not thread-safe; PayrollSystem calls it under its own lock.
+ */
+public class PayrollJournal {
+
+    /**
+     * Receives each journal record newer than the checkpoint during recovery
+     */
+    public interface ReplayHandler {
+        void replay(int employeeId, long epochDay, long amountCents);
+    }
+
+    public static final int RECORD_SIZE = 32;
+
+    private static final int RECORD_MARKER = 0x50415931;      // "PAY1"
+    private static final int CHECKPOINT_MAGIC_V1 = 0x50434B31; // "PCK1": totals only
+    private static final int CHECKPOINT_MAGIC = 0x50434B32;    // "PCK2": totals and per-date history
+    private static final int INITIAL_RECORDS = 128 * 1024;
+    private static final int CHECKPOINT_INTERVAL = 100_000;
+
+    private final Path journalFile;
+    private final Path checkpointFile;
+    private final FileChannel channel;
+    private final CRC32 crc = new CRC32();
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch);
+
+    private MappedByteBuffer mapped;
+    private long sequence;
+    private long checkpointSequence;
+    private int appendedSinceCheckpoint;
+
+    private PayrollJournal(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.journalFile = directory.resolve("payroll.journal");
+        this.checkpointFile = directory.resolve("payroll.checkpoint");
+        this.channel = FileChannel.open(journalFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        lockOrFail();
+        long size = Math.max(channel.size(), (long) INITIAL_RECORDS * RECORD_SIZE);
+        this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    /**
+     * Take an exclusive lock on the journal for the life of the channel (closing it
+     * releases the lock), or fail if another process or journal holds it
+     */
+    private void lockOrFail() throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            channel.close();
+            throw new IOException("Payroll journal is in use by another instance: " + journalFile);
+        }
+    }
+
+    /**
+     * Open the journal in the given directory, creating it if needed
+     *
+     * @throws IOException also if another instance has the journal open
+     */
+    public static PayrollJournal open(Path directory) throws IOException {
+        return new PayrollJournal(directory);
+    }
+
+    /**
+     * Default journal location in the user's home directory
+     */
+    public static Path defaultDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".employee-management-system");
+    }
+
+    /**
+     * Rebuild state: load the checkpoint into the maps, then replay newer records.
+     * Leaves the journal positioned after the last valid record.
+     *
+     * @param paymentsByDate receives the checkpointed per-date history
+     *                       (empty for checkpoints written before it was stored)
+     * @return number of journal records replayed
+     */
+    public int recover(IntLongHashMap totalCents, IntLongHashMap lastProcessedDay,
+                       NavigableMap<LocalDate, IntLongHashMap> paymentsByDate,
+                       ReplayHandler handler) throws IOException {
+        checkpointSequence = loadCheckpoint(totalCents, lastProcessedDay, paymentsByDate);
+        sequence = checkpointSequence;
+
+        int replayed = 0;
+        int position = 0;
+        long previous = Long.MIN_VALUE;
+
+        while (position + RECORD_SIZE <= mapped.capacity()) {
+            mapped.position(position);
+            mapped.get(scratch);
+            scratchBuffer.clear();
+
+            int employeeId = scratchBuffer.getInt(0);
+            int epochDay = scratchBuffer.getInt(4);
+            long cents = scratchBuffer.getLong(8);
+            long recordSequence = scratchBuffer.getLong(16);
+            int checksum = scratchBuffer.getInt(24);
+            int marker = scratchBuffer.getInt(28);
+
+            // Stop at the first empty, torn or stale record
+            if (marker != RECORD_MARKER || checksum != checksum() || recordSequence <= previous) {
+                break;
+            }
+            previous = recordSequence;
+            position += RECORD_SIZE;
+
+            if (recordSequence > checkpointSequence) {
+                handler.replay(employeeId, epochDay, cents);
+                sequence = recordSequence;
+                replayed++;
+            }
+        }
+
+        // Everything scanned is already in the checkpoint: start over at the front
+        mapped.position(previous > checkpointSequence ? position : 0);
+        appendedSinceCheckpoint = replayed;
+        return replayed;
+    }
+
+    /**
+     * Append one payment
+     */
+    public void append(int employeeId, long epochDay, long amountCents) throws IOException {
+        if (mapped.remaining() < RECORD_SIZE) {
+            grow();
+        }
+
+        scratchBuffer.clear();
+        scratchBuffer.putInt(0, employeeId);
+        scratchBuffer.putInt(4, (int) epochDay);
+        scratchBuffer.putLong(8, amountCents);
+        scratchBuffer.putLong(16, ++sequence);
+        scratchBuffer.putInt(24, checksum());
+        scratchBuffer.putInt(28, RECORD_MARKER);
+        mapped.put(scratch);
+
+        appendedSinceCheckpoint++;
+    }
+
+    /**
+     * True once enough records were appended that a checkpoint is worthwhile
+     */
+    public boolean isCheckpointDue() {
+        return appendedSinceCheckpoint >= CHECKPOINT_INTERVAL;
+    }
+
+    /**
+     * Persist the full totals and per-date history, then rewind the journal
+     */
+    public void checkpoint(IntLongHashMap totalCents, IntLongHashMap lastProcessedDay,
+                           NavigableMap<LocalDate, IntLongHashMap> paymentsByDate) throws IOException {
+        mapped.force();
+
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeLong(sequence);
+            writeMap(out, totalCents);
+            writeMap(out, lastProcessedDay);
+            out.writeInt(paymentsByDate.size());
+            for (Map.Entry<LocalDate, IntLongHashMap> day : paymentsByDate.entrySet()) {
+                out.writeInt((int) day.getKey().toEpochDay());
+                writeMap(out, day.getValue());
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        checkpointSequence = sequence;
+        appendedSinceCheckpoint = 0;
+        mapped.position(0);
+    }
+
+    /**
+     * Checkpoint and release the file
+     */
+    public void close(IntLongHashMap totalCents, IntLongHashMap lastProcessedDay,
+                      NavigableMap<LocalDate, IntLongHashMap> paymentsByDate) throws IOException {
+        checkpoint(totalCents, lastProcessedDay, paymentsByDate);
+        channel.close();
+    }
+
+    private long loadCheckpoint(IntLongHashMap totalCents, IntLongHashMap lastProcessedDay,
+                                NavigableMap<LocalDate, IntLongHashMap> paymentsByDate) throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0L;
+        }
+        try (InputStream file = Files.newInputStream(checkpointFile);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            int magic = in.readInt();
+            if (magic != CHECKPOINT_MAGIC && magic != CHECKPOINT_MAGIC_V1) {
+                throw new IOException("Not a payroll checkpoint: " + checkpointFile);
+            }
+            long coveredSequence = in.readLong();
+            readMap(in, totalCents);
+            readMap(in, lastProcessedDay);
+            if (magic == CHECKPOINT_MAGIC) {
+                int days = in.readInt();
+                for (int i = 0; i < days; i++) {
+                    LocalDate date = LocalDate.ofEpochDay(in.readInt());
+                    IntLongHashMap payments = new IntLongHashMap();
+                    readMap(in, payments);
+                    paymentsByDate.put(date, payments);
+                }
+            }
+            return coveredSequence;
+        }
+    }
+
+    private void grow() throws IOException {
+        int position = mapped.position();
+        mapped.force();
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) mapped.capacity() * 2);
+        mapped.position(position);
+    }
+
+    /**
+     * CRC32 of the first 24 bytes of the scratch record
+     */
+    private int checksum() {
+        crc.reset();
+        crc.update(scratch, 0, 24);
+        return (int) crc.getValue();
+    }
+
+    private static void writeMap(DataOutputStream out, IntLongHashMap map) throws IOException {
+        out.writeInt(map.size());
+        IOException[] failure = new IOException[1];
+        map.forEach((key, value) -> {
+            if (failure[0] != null) {
+                return;
+            }
+            try {
+                out.writeInt(key);
+                out.writeLong(value);
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    private static void readMap(DataInputStream in, IntLongHashMap map) throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            map.put(in.readInt(), in.readLong());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.employeemanagementsystem.payroll;
+
+import com.employeemanagementsystem.model.Money;
+
+/**
+ * Outcome of a bulk payroll run
+ */
+public class PayrollRunSummary {
+    private final int processed;
+    private final int skipped;
+    private final int failed;
+    private final long totalPaidCents;
+    private final long elapsedMillis;
+    private final boolean cancelled;
+    private final String error; // why the run stopped before reaching every employee, or null
+
+    public PayrollRunSummary(int processed, int skipped, int failed, long totalPaidCents,
+                             long elapsedMillis, boolean cancelled, String error) {
+        this.processed = processed;
+        this.skipped = skipped;
+        this.failed = failed;
+        this.totalPaidCents = totalPaidCents;
+        this.elapsedMillis = elapsedMillis;
+        this.cancelled = cancelled;
+        this.error = error;
+    }
+
+    /**
+     * Employees paid and stored in payroll_records
+     */
+    public int getProcessed() {
+        return processed;
+    }
+
+    /**
+     * Employees skipped because they were already paid for the month
+     * (pay_period), by this instance or any other
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Employees whose chunk could not be written to the database
+     */
+    public int getFailed() {
+        return failed;
+    }
+
+    public double getTotalPaid() {
+        return Money.toDouble(totalPaidCents);
+    }
+
+    public long getTotalPaidCents() {
+        return totalPaidCents;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * True if the run stopped early because of an error, so some employees
+     * were neither paid nor counted; see getError()
+     */
+    public boolean isAborted() {
+        return error != null;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Payroll run %s: %d paid, %d skipped, %d failed | Total: $%s | %d ms",
+                error != null ? "failed (" + error + ")" : cancelled ? "cancelled" : "completed",
+                processed, skipped, failed, Money.format(totalPaidCents), elapsedMillis
+        );
+    }
+}
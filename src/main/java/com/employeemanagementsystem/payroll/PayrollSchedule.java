@@ -0,0 +1,84 @@
+package com.employeemanagementsystem.payroll;
+
+import com.employeemanagementsystem.model.Employee;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.function.Predicate;
+
+/**
+ * When a scheduled payroll run fires and which employees it pays.
+ *
+ * A schedule fires monthly on a day of the month at a fixed local time; days
+ * past the end of a short month fire on its last day, so 31 means "last day".
+ * Payments are keyed on the month, so a run pays one month's salary.
+ */
+public class PayrollSchedule {
+
+    private final String name;
+    private final int dayOfMonth;
+    private final LocalTime time;
+    private final Predicate<Employee> filter;
+
+    private PayrollSchedule(String name, int dayOfMonth, LocalTime time, Predicate<Employee> filter) {
+        this.name = name;
+        this.dayOfMonth = dayOfMonth;
+        this.time = time;
+        this.filter = filter;
+    }
+
+    /**
+     * Fire every month on the given day (1-31) at the given time
+     */
+    public static PayrollSchedule monthly(String name, int dayOfMonth, LocalTime time,
+                                          Predicate<Employee> filter) {
+        if (dayOfMonth < 1 || dayOfMonth > 31) {
+            throw new IllegalArgumentException("Day of month must be between 1 and 31: " + dayOfMonth);
+        }
+        return new PayrollSchedule(name, dayOfMonth, time, filter);
+    }
+
+    /**
+     * First occurrence strictly after the given moment
+     */
+    public LocalDateTime nextOccurrenceAfter(LocalDateTime after) {
+        LocalDateTime candidate = occurrenceInPeriodOf(after.toLocalDate());
+        if (!candidate.isAfter(after)) {
+            candidate = occurrenceInPeriodOf(after.toLocalDate().plusMonths(1));
+        }
+        return candidate;
+    }
+
+    /**
+     * Latest occurrence at or before the given moment
+     */
+    public LocalDateTime lastOccurrenceAtOrBefore(LocalDateTime at) {
+        LocalDateTime candidate = occurrenceInPeriodOf(at.toLocalDate());
+        if (candidate.isAfter(at)) {
+            candidate = occurrenceInPeriodOf(at.toLocalDate().minusMonths(1));
+        }
+        return candidate;
+    }
+
+    /**
+     * The occurrence in the month containing the date
+     */
+    private LocalDateTime occurrenceInPeriodOf(LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        return month.atDay(Math.min(dayOfMonth, month.lengthOfMonth())).atTime(time);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Predicate<Employee> getFilter() {
+        return filter;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (monthly on day " + dayOfMonth + " at " + time + ")";
+    }
+}
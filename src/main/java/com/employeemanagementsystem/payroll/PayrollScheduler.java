@@ -0,0 +1,355 @@
+package com.employeemanagementsystem.payroll;
+
+import com.employeemanagementsystem.model.Employee;
+import com.employeemanagementsystem.model.EmployeeType;
+import com.employeemanagementsystem.patterns.factory.EmployeeFactory;
+import com.employeemanagementsystem.patterns.singleton.PayrollSystem;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs PayrollSystem batch runs on a schedule, in the background.
+ *
+ * A single timer thread waits for the next occurrence of each schedule and
+ * hands the run to a small pool of run threads, which limits how many
+ * scheduled runs hit the database at once; further runs queue. Nothing here
+ * runs on the JavaFX thread; the UI follows progress through a RunListener.
+ *
+ * Misfires: the last occurrence fired for each schedule is stored in
+ * payroll-schedules.properties. On startup every schedule whose latest
+ * occurrence is newer than that runs exactly once, however many occurrences
+ * were missed. An occurrence is never started twice. A run cut short by a
+ * crash is not repeated automatically; Run Now completes it, and the
+ * payroll_records unique key makes it skip everyone who was already paid.
+ */
+public class PayrollScheduler {
+
+    /**
+     * Notified whenever a scheduled run starts, makes progress or finishes.
+     * Called from scheduler threads.
+     */
+    public interface RunListener {
+        void onRunUpdated(ScheduledPayrollRun run);
+    }
+
+    private static final int MAX_CONCURRENT_RUNS = 1;
+    private static final int HISTORY_SIZE = 50;
+
+    private static PayrollScheduler instance;
+
+    private final List<PayrollSchedule> schedules = new ArrayList<>();
+    private final Map<String, LocalDateTime> lastFired = new HashMap<>();
+    private final Set<String> running = new HashSet<>();
+    private final Map<String, PayrollBatchRun> activeRuns = new HashMap<>();
+    private final Deque<ScheduledPayrollRun> history = new ArrayDeque<>();
+    private final Path stateFile;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService runners;
+
+    private volatile RunListener listener = run -> { };
+    private boolean started;
+
+    private PayrollScheduler() {
+        stateFile = PayrollJournal.defaultDirectory().resolve("payroll-schedules.properties");
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payroll-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        runners = Executors.newFixedThreadPool(MAX_CONCURRENT_RUNS, runnable -> {
+            Thread thread = new Thread(runnable, "payroll-scheduled-run");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Default schedules, both on the last day of the month: a run pays the
+        // monthly salary (calculateSalaryCents) and payments are keyed on the month
+        addSchedule(PayrollSchedule.monthly("Monthly Salary", 31, LocalTime.of(9, 0),
+                employee -> employee.getType() != EmployeeType.PART_TIME));
+        addSchedule(PayrollSchedule.monthly("Monthly Part-time", 31, LocalTime.of(9, 0),
+                employee -> employee.getType() == EmployeeType.PART_TIME));
+    }
+
+    /**
+     * Get the single instance of PayrollScheduler
+     */
+    public static synchronized PayrollScheduler getInstance() {
+        if (instance == null) {
+            instance = new PayrollScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Cancel running payroll and stop the scheduler threads, if it was ever started
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            instance.stop();
+        }
+    }
+
+    public void setListener(RunListener listener) {
+        this.listener = listener != null ? listener : run -> { };
+    }
+
+    /**
+     * Add a schedule. Every run pays one month's salary, so a schedule that
+     * would pay some employee type a second time in a month (or reuses a name)
+     * is rejected: it is recorded as a failed run in the history and reported
+     * to the listener, and the other schedules keep running. A schedule added
+     * after start() is armed right away.
+     *
+     * @return true if the schedule was added
+     */
+    public synchronized boolean addSchedule(PayrollSchedule schedule) {
+        String problem = validate(schedule);
+        if (problem != null) {
+            System.err.println("Payroll schedule " + schedule.getName() + " rejected: " + problem);
+            LocalDateTime now = LocalDateTime.now();
+            ScheduledPayrollRun rejected = new ScheduledPayrollRun(schedule.getName(),
+                    schedule.nextOccurrenceAfter(now), now, false);
+            rejected.fail("Schedule rejected: " + problem);
+            addToHistory(rejected);
+            listener.onRunUpdated(rejected);
+            return false;
+        }
+
+        schedules.add(schedule);
+        if (started) {
+            timer.execute(() -> {
+                LocalDateTime now = LocalDateTime.now();
+                handleMisfire(schedule, now);
+                scheduleNext(schedule, now);
+            });
+        }
+        return true;
+    }
+
+    /**
+     * Why the schedule cannot be added next to the current ones, or null if it can
+     */
+    private String validate(PayrollSchedule schedule) {
+        for (PayrollSchedule existing : schedules) {
+            if (existing.getName().equals(schedule.getName())) {
+                return "a schedule with this name already exists";
+            }
+        }
+        for (EmployeeType type : EmployeeType.values()) {
+            Employee sample = EmployeeFactory.createEmployee(type.getDisplayName(), 0,
+                    "Schedule", "Check", null);
+            if (!schedule.getFilter().test(sample)) {
+                continue;
+            }
+            for (PayrollSchedule existing : schedules) {
+                if (existing.getFilter().test(sample)) {
+                    return type.getDisplayName() + " employees are already paid monthly by "
+                            + existing.getName();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Load the schedule state, run missed occurrences and arm the timers.
+     * Returns immediately; all work happens on the scheduler thread.
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        // Schedules added from now on are armed by addSchedule
+        List<PayrollSchedule> initial = new ArrayList<>(schedules);
+        timer.execute(() -> {
+            loadState();
+            LocalDateTime now = LocalDateTime.now();
+            for (PayrollSchedule schedule : initial) {
+                handleMisfire(schedule, now);
+                scheduleNext(schedule, now);
+            }
+        });
+    }
+
+    /**
+     * Start a schedule's run right away, outside its timetable
+     *
+     * @return false if that schedule is already running or queued
+     */
+    public synchronized boolean runNow(String scheduleName) {
+        for (PayrollSchedule schedule : schedules) {
+            if (schedule.getName().equals(scheduleName)) {
+                return submit(schedule, LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES), false);
+            }
+        }
+        return false;
+    }
+
+    public synchronized List<PayrollSchedule> getSchedules() {
+        return new ArrayList<>(schedules);
+    }
+
+    /**
+     * Next time each schedule fires, for display
+     */
+    public synchronized Map<String, LocalDateTime> getNextRuns() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, LocalDateTime> next = new HashMap<>();
+        for (PayrollSchedule schedule : schedules) {
+            next.put(schedule.getName(), schedule.nextOccurrenceAfter(now));
+        }
+        return next;
+    }
+
+    /**
+     * Most recent runs first
+     */
+    public synchronized List<ScheduledPayrollRun> getHistory() {
+        return new ArrayList<>(history);
+    }
+
+    /**
+     * If the latest occurrence was missed while the application was closed, run it once now.
+     * On the very first start there is no state yet, so nothing is backfilled.
+     */
+    private synchronized void handleMisfire(PayrollSchedule schedule, LocalDateTime now) {
+        LocalDateTime latest = schedule.lastOccurrenceAtOrBefore(now);
+        LocalDateTime previous = lastFired.get(schedule.getName());
+
+        if (previous == null) {
+            lastFired.put(schedule.getName(), latest);
+            saveState();
+        } else if (latest.isAfter(previous)) {
+            System.out.println("Payroll schedule " + schedule.getName() + " missed " + latest + ", running now.");
+            fire(schedule, latest, true);
+        }
+    }
+
+    private void scheduleNext(PayrollSchedule schedule, LocalDateTime now) {
+        LocalDateTime next = schedule.nextOccurrenceAfter(now);
+        long delay = Math.max(0, Duration.between(LocalDateTime.now(), next).toMillis());
+
+        timer.schedule(() -> {
+            fire(schedule, next, false);
+            // Re-arm from the occurrence, not the clock, so a timer firing early cannot repeat it
+            scheduleNext(schedule, next);
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Start the run for one occurrence, unless it already fired
+     */
+    private synchronized void fire(PayrollSchedule schedule, LocalDateTime occurrence, boolean misfire) {
+        LocalDateTime previous = lastFired.get(schedule.getName());
+        if (previous != null && !occurrence.isAfter(previous)) {
+            return;
+        }
+        if (submit(schedule, occurrence, misfire)) {
+            lastFired.put(schedule.getName(), occurrence);
+            saveState();
+        }
+    }
+
+    private synchronized boolean submit(PayrollSchedule schedule, LocalDateTime occurrence, boolean misfire) {
+        if (runners.isShutdown() || !running.add(schedule.getName())) {
+            System.out.println("Payroll schedule " + schedule.getName() + " is already running.");
+            return false;
+        }
+
+        ScheduledPayrollRun record = new ScheduledPayrollRun(schedule.getName(), occurrence,
+                LocalDateTime.now(), misfire);
+        addToHistory(record);
+
+        runners.execute(() -> execute(schedule, record));
+        listener.onRunUpdated(record);
+        return true;
+    }
+
+    private synchronized void addToHistory(ScheduledPayrollRun record) {
+        history.addFirst(record);
+        while (history.size() > HISTORY_SIZE) {
+            history.removeLast();
+        }
+    }
+
+    private void execute(PayrollSchedule schedule, ScheduledPayrollRun record) {
+        try {
+            // Created here so the PayrollSystem start-up cost never lands on the caller's thread
+            PayrollBatchRun batchRun = PayrollSystem.getInstance().newBatchRun(schedule.getFilter());
+            synchronized (this) {
+                activeRuns.put(schedule.getName(), batchRun);
+            }
+            batchRun.setProgressListener((processed, skipped, failed) -> {
+                record.updateProgress(processed, skipped, failed);
+                listener.onRunUpdated(record);
+            });
+            record.complete(batchRun.run());
+        } catch (RuntimeException e) {
+            System.err.println("Scheduled payroll " + schedule.getName() + " failed: " + e.getMessage());
+            record.fail(e.getMessage());
+        } finally {
+            synchronized (this) {
+                activeRuns.remove(schedule.getName());
+                running.remove(schedule.getName());
+            }
+            listener.onRunUpdated(record);
+        }
+    }
+
+    private synchronized void stop() {
+        for (PayrollBatchRun run : activeRuns.values()) {
+            run.cancel();
+        }
+        timer.shutdownNow();
+        runners.shutdown();
+    }
+
+    private synchronized void loadState() {
+        if (!Files.exists(stateFile)) {
+            return;
+        }
+        Properties state = new Properties();
+        try (InputStream in = Files.newInputStream(stateFile)) {
+            state.load(in);
+            for (String name : state.stringPropertyNames()) {
+                lastFired.put(name, LocalDateTime.parse(state.getProperty(name)));
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error reading payroll schedule state: " + e.getMessage());
+        }
+    }
+
+    private synchronized void saveState() {
+        Properties state = new Properties();
+        lastFired.forEach((name, occurrence) -> state.setProperty(name, occurrence.toString()));
+        try {
+            Files.createDirectories(stateFile.getParent());
+            try (OutputStream out = Files.newOutputStream(stateFile)) {
+                state.store(out, "Last fired occurrence per payroll schedule");
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving payroll schedule state: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.employeemanagementsystem.payroll;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry in the scheduler's run history. Progress fields are updated by the
+ * worker thread while the run is in progress.
+ */
+public class ScheduledPayrollRun {
+
+    public enum Status { RUNNING, COMPLETED, CANCELLED, FAILED }
+
+    private final String scheduleName;
+    private final LocalDateTime scheduledFor;
+    private final LocalDateTime startedAt;
+    private final boolean misfire;
+
+    private volatile Status status = Status.RUNNING;
+    private volatile int processed;
+    private volatile int skipped;
+    private volatile int failed;
+    private volatile PayrollRunSummary summary;
+    private volatile String error;
+
+    public ScheduledPayrollRun(String scheduleName, LocalDateTime scheduledFor,
+                               LocalDateTime startedAt, boolean misfire) {
+        this.scheduleName = scheduleName;
+        this.scheduledFor = scheduledFor;
+        this.startedAt = startedAt;
+        this.misfire = misfire;
+    }
+
+    void updateProgress(int processed, int skipped, int failed) {
+        this.processed = processed;
+        this.skipped = skipped;
+        this.failed = failed;
+    }
+
+    void complete(PayrollRunSummary summary) {
+        this.summary = summary;
+        if (summary.isAborted()) {
+            this.error = summary.toString();
+            this.status = Status.FAILED;
+        } else {
+            this.status = summary.isCancelled() ? Status.CANCELLED : Status.COMPLETED;
+        }
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.status = Status.FAILED;
+    }
+
+    public String getScheduleName() {
+        return scheduleName;
+    }
+
+    /**
+     * The schedule occurrence this run pays for
+     */
+    public LocalDateTime getScheduledFor() {
+        return scheduledFor;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * True if the run was started late because the application was not running
+     * at the scheduled time
+     */
+    public boolean isMisfire() {
+        return misfire;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public PayrollRunSummary getSummary() {
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        String outcome;
+        if (status == Status.RUNNING) {
+            outcome = processed + " paid, " + skipped + " skipped, " + failed + " failed so far";
+        } else if (status == Status.FAILED) {
+            outcome = error;
+        } else {
+            outcome = summary.toString();
+        }
+        return String.format("[%s] %s for %s%s: %s", status, scheduleName, scheduledFor,
+                misfire ? " (late)" : "", outcome);
+    }
+}
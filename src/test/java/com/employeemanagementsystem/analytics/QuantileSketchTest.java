@@ -0,0 +1,89 @@
+package com.employeemanagementsystem.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class QuantileSketchTest {
+
+    private static final double[] QUANTILES = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1.0};
+
+    @Test
+    void emptySketchReturnsZero() {
+        QuantileSketch sketch = new QuantileSketch();
+
+        assertEquals(0L, sketch.quantile(0.5));
+        assertEquals(0L, sketch.getCount());
+    }
+
+    @Test
+    void quantilesAreWithinTheRelativeError() {
+        Random random = new Random(11);
+        long[] salaries = new long[20_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < salaries.length; i++) {
+            // $1,000 to $20,000 a month, in cents
+            salaries[i] = 100_000 + random.nextInt(1_900_000);
+            sketch.add(salaries[i]);
+        }
+        Arrays.sort(salaries);
+
+        for (double q : QUANTILES) {
+            long exact = salaries[(int) Math.ceil(q * salaries.length) - 1];
+            assertWithinRelativeError(exact, sketch.quantile(q), sketch.getRelativeError(), q);
+        }
+    }
+
+    @Test
+    void zeroAmountsAreCountedSeparately() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < 30; i++) {
+            sketch.add(0L);
+        }
+        for (int i = 0; i < 70; i++) {
+            sketch.add(500_000L);
+        }
+
+        assertEquals(100L, sketch.getCount());
+        assertEquals(0L, sketch.quantile(0.3));
+        assertWithinRelativeError(500_000L, sketch.quantile(0.31), sketch.getRelativeError(), 0.31);
+    }
+
+    @Test
+    void mergedSketchMatchesOneBuiltFromAllValues() {
+        Random random = new Random(3);
+        QuantileSketch all = new QuantileSketch();
+        QuantileSketch left = new QuantileSketch();
+        QuantileSketch right = new QuantileSketch();
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextInt(5_000_000);
+            all.add(value);
+            (i % 3 == 0 ? left : right).add(value);
+        }
+
+        left.merge(right);
+
+        assertEquals(all.getCount(), left.getCount());
+        for (double q : QUANTILES) {
+            assertEquals(all.quantile(q), left.quantile(q), "quantile " + q);
+        }
+    }
+
+    @Test
+    void mergeRejectsADifferentRelativeError() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new QuantileSketch(0.02)));
+    }
+
+    private static void assertWithinRelativeError(long exact, long estimate, double relativeError, double q) {
+        // One extra cent for rounding the estimate to whole cents
+        double allowed = exact * relativeError + 1;
+        assertTrue(Math.abs(estimate - exact) <= allowed,
+                "quantile " + q + ": estimate " + estimate + " is not within " + relativeError + " of " + exact);
+    }
+}
@@ -0,0 +1,121 @@
+package com.employeemanagementsystem.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import org.junit.jupiter.api.Test;
+
+class IdAllocatorTest {
+
+    /**
+     * Stands in for id_sequences: each call moves next_value forward by count
+     */
+    private static final class FakeSequence implements IntToLongFunction {
+        private long nextValue = 1;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public synchronized long applyAsLong(int count) {
+            calls.incrementAndGet();
+            long first = nextValue;
+            nextValue += count;
+            return first;
+        }
+    }
+
+    @Test
+    void nextIdHandsOutABlockBeforeReservingAnother() {
+        FakeSequence sequence = new FakeSequence();
+        IdAllocator allocator = new IdAllocator("employees", 10, sequence);
+
+        for (int expected = 1; expected <= 10; expected++) {
+            assertEquals(expected, allocator.nextId());
+        }
+        assertEquals(1, sequence.calls.get());
+
+        assertEquals(11, allocator.nextId());
+        assertEquals(2, sequence.calls.get());
+    }
+
+    @Test
+    void blocksOfAnotherInstanceAreSkipped() {
+        FakeSequence sequence = new FakeSequence();
+        IdAllocator first = new IdAllocator("employees", 5, sequence);
+        IdAllocator second = new IdAllocator("employees", 5, sequence);
+
+        assertEquals(1, first.nextId());
+        assertEquals(6, second.nextId());
+        assertEquals(2, first.nextId());
+    }
+
+    @Test
+    void reserveSuppliesExactlyCountContiguousIds() {
+        FakeSequence sequence = new FakeSequence();
+        IdAllocator allocator = new IdAllocator("employees", 50, sequence);
+        assertEquals(1, allocator.nextId());
+
+        IntSupplier range = allocator.reserve(3);
+        assertEquals(51, range.getAsInt());
+        assertEquals(52, range.getAsInt());
+        assertEquals(53, range.getAsInt());
+        assertThrows(IllegalStateException.class, range::getAsInt);
+
+        // The open block is not disturbed by the reserved range
+        assertEquals(2, allocator.nextId());
+    }
+
+    @Test
+    void reserveRejectsNonPositiveCounts() {
+        FakeSequence sequence = new FakeSequence();
+        IdAllocator allocator = new IdAllocator("employees", 50, sequence);
+
+        assertThrows(IllegalArgumentException.class, () -> allocator.reserve(0));
+        assertEquals(0, sequence.calls.get());
+    }
+
+    @Test
+    void concurrentCallersNeverReceiveTheSameId() throws Exception {
+        FakeSequence sequence = new FakeSequence();
+        IdAllocator allocator = new IdAllocator("employees", 7, sequence);
+        int threads = 8;
+        int idsPerThread = 5_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<List<Integer>>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                List<Integer> ids = new ArrayList<>(idsPerThread);
+                for (int i = 0; i < idsPerThread; i++) {
+                    ids.add(allocator.nextId());
+                }
+                return ids;
+            }));
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        for (Future<List<Integer>> result : results) {
+            for (int id : result.get()) {
+                assertTrue(seen.add(id), "id " + id + " handed out twice");
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(threads * idsPerThread, seen.size());
+        // Only the last block may be partly unused, so no thread refilled a block twice
+        assertTrue(sequence.calls.get() <= threads * idsPerThread / 7 + 1,
+                "reserved " + sequence.calls.get() + " blocks");
+    }
+}
@@ -0,0 +1,126 @@
+package com.employeemanagementsystem.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class IntHashSetTest {
+
+    @Test
+    void addReportsWhetherValueWasNew() {
+        IntHashSet set = new IntHashSet();
+
+        assertTrue(set.add(5));
+        assertFalse(set.add(5));
+        assertTrue(set.contains(5));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void removeReportsWhetherValueWasPresent() {
+        IntHashSet set = new IntHashSet();
+        set.add(5);
+
+        assertTrue(set.remove(5));
+        assertFalse(set.remove(5));
+        assertFalse(set.contains(5));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void zeroIsAnOrdinaryMember() {
+        IntHashSet set = new IntHashSet();
+        assertFalse(set.contains(0));
+
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+
+        assertTrue(set.remove(0));
+        assertFalse(set.contains(0));
+        assertEquals(0, set.size());
+    }
+
+    @Test
+    void removeKeepsTheRestOfAProbeRunReachable() {
+        // Small table and many values, so removals happen inside long probe runs
+        IntHashSet set = new IntHashSet(4);
+        for (int id = 1; id <= 2_000; id++) {
+            set.add(id);
+        }
+        for (int id = 1; id <= 2_000; id += 2) {
+            assertTrue(set.remove(id));
+        }
+
+        assertEquals(1_000, set.size());
+        for (int id = 1; id <= 2_000; id++) {
+            assertEquals(id % 2 == 0, set.contains(id), "contains(" + id + ")");
+        }
+    }
+
+    @Test
+    void matchesHashSetForRandomAddsAndRemoves() {
+        Random random = new Random(7);
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt(3_000) - 1_000;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), set.add(value));
+            } else {
+                assertEquals(expected.remove(value), set.remove(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (int value = -1_000; value < 2_000; value++) {
+            assertEquals(expected.contains(value), set.contains(value), "contains(" + value + ")");
+        }
+    }
+
+    @Test
+    void ensureCapacityKeepsExistingMembers() {
+        IntHashSet set = new IntHashSet(2);
+        set.add(3);
+        set.add(0);
+        set.ensureCapacity(10_000);
+
+        assertTrue(set.contains(3));
+        assertTrue(set.contains(0));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void toSortedArrayAndForEachSeeEveryMember() {
+        IntHashSet set = new IntHashSet();
+        for (int value : new int[]{42, 0, -3, 17, 1_000_000}) {
+            set.add(value);
+        }
+
+        assertArrayEquals(new int[]{-3, 0, 17, 42, 1_000_000}, set.toSortedArray());
+
+        Set<Integer> visited = new HashSet<>();
+        set.forEach(value -> assertTrue(visited.add(value)));
+        assertEquals(Set.of(-3, 0, 17, 42, 1_000_000), visited);
+    }
+
+    @Test
+    void clearRemovesAllMembers() {
+        IntHashSet set = new IntHashSet();
+        set.add(0);
+        set.add(8);
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(8));
+        assertArrayEquals(new int[0], set.toSortedArray());
+    }
+}
@@ -0,0 +1,75 @@
+package com.employeemanagementsystem.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @Test
+    void ofDoubleRoundsTheAmountAsWritten() {
+        // 1.005 and 0.285 are just below the half as binary doubles
+        assertEquals(101L, Money.ofDouble(1.005));
+        assertEquals(29L, Money.ofDouble(0.285));
+        assertEquals(123450L, Money.ofDouble(1234.5));
+        assertEquals(0L, Money.ofDouble(0.004));
+    }
+
+    @Test
+    void ofDoubleRoundsHalfAwayFromZero() {
+        assertEquals(1L, Money.ofDouble(0.005));
+        assertEquals(-1L, Money.ofDouble(-0.005));
+        assertEquals(-101L, Money.ofDouble(-1.005));
+    }
+
+    @Test
+    void ofDoubleRejectsAmountsOutsideLongCents() {
+        assertThrows(ArithmeticException.class, () -> Money.ofDouble(Double.NaN));
+        assertThrows(ArithmeticException.class, () -> Money.ofDouble(Double.POSITIVE_INFINITY));
+        assertThrows(ArithmeticException.class, () -> Money.ofDouble(1e17));
+        assertThrows(ArithmeticException.class, () -> Money.ofDouble(-1e17));
+    }
+
+    @Test
+    void arithmeticThrowsInsteadOfWrapping() {
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.subtract(Long.MIN_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.multiply(Long.MAX_VALUE / 2, 3L));
+        assertThrows(ArithmeticException.class, () -> Money.multiply(Long.MAX_VALUE / 2, 3.0));
+        assertThrows(ArithmeticException.class, () -> Money.multiply(100L, Double.NaN));
+        assertThrows(ArithmeticException.class, () -> Money.percent(Long.MAX_VALUE, 10_000));
+    }
+
+    @Test
+    void multiplyByFactorRoundsHalfAwayFromZero() {
+        assertEquals(104000L, Money.multiply(100000L, 1.04));
+        assertEquals(2L, Money.multiply(3L, 0.5));
+        assertEquals(-2L, Money.multiply(-3L, 0.5));
+    }
+
+    @Test
+    void percentRoundsHalfAwayFromZero() {
+        // 12.5% of $1.00, and 0.5% of 1 cent
+        assertEquals(13L, Money.percent(100L, 1_250));
+        assertEquals(-13L, Money.percent(-100L, 1_250));
+        assertEquals(0L, Money.percent(1L, 49));
+        assertEquals(500L, Money.percent(10_000L, 500));
+    }
+
+    @Test
+    void bigDecimalRoundTripIsExact() {
+        assertEquals(new BigDecimal("1234.56"), Money.toBigDecimal(123456L));
+        assertEquals(123456L, Money.fromBigDecimal(new BigDecimal("1234.56")));
+        assertEquals(123457L, Money.fromBigDecimal(new BigDecimal("1234.565")));
+    }
+
+    @Test
+    void formatPadsCentsAndKeepsTheSign() {
+        assertEquals("1234.50", Money.format(123450L));
+        assertEquals("0.05", Money.format(5L));
+        assertEquals("-0.05", Money.format(-5L));
+        assertEquals("-12.34", Money.format(-1234L));
+    }
+}
@@ -0,0 +1,133 @@
+package com.employeemanagementsystem.patterns.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.employeemanagementsystem.model.Contractor;
+import com.employeemanagementsystem.model.Department;
+import com.employeemanagementsystem.model.Employee;
+import com.employeemanagementsystem.model.EmployeeType;
+import com.employeemanagementsystem.model.FullTimeEmployee;
+import com.employeemanagementsystem.model.PartTimeEmployee;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeeBuilderTest {
+
+    private static final LocalDate HIRED = LocalDate.of(2025, 3, 1);
+
+    @Test
+    void buildIntoAddsValidRowsAndRecordsInvalidOnes() {
+        EmployeeBuilder builder = new EmployeeBuilder().startBatch();
+        List<Employee> employees = new ArrayList<>();
+
+        assertTrue(builder.reset(1, "Jane", "Smith").buildInto(employees));
+        assertFalse(builder.reset(2, "John", "").email("john").buildInto(employees));
+        assertTrue(builder.reset(3, "Ann", "Lee").buildInto(employees));
+
+        assertEquals(2, employees.size());
+        assertEquals(3, employees.get(1).getEmployeeId());
+        assertEquals(List.of("Row 2: Last name is required", "Row 2: Invalid email: john"), builder.getErrors());
+        assertTrue(builder.hasErrors());
+    }
+
+    @Test
+    void resetRestoresTheDefaultsOfThePreviousRow() {
+        EmployeeBuilder builder = new EmployeeBuilder().startBatch();
+        List<Employee> employees = new ArrayList<>();
+
+        builder.reset(1, "Pat", "Part")
+                .employeeType(EmployeeType.PART_TIME)
+                .email("pat@company.com")
+                .hireDate(HIRED)
+                .hoursPerWeek(30)
+                .buildInto(employees);
+        builder.reset(2, "Fay", "Full").buildInto(employees);
+
+        assertTrue(employees.get(0) instanceof PartTimeEmployee);
+        assertEquals(30, ((PartTimeEmployee) employees.get(0)).getHoursPerWeek());
+        assertTrue(employees.get(1) instanceof FullTimeEmployee);
+        assertEquals("", employees.get(1).getEmail());
+        assertEquals(LocalDate.now(), employees.get(1).getHireDate());
+        assertEquals(20, ((FullTimeEmployee) employees.get(1)).getAnnualLeaveDays());
+    }
+
+    @Test
+    void validatesTypeSpecificFields() {
+        EmployeeBuilder builder = new EmployeeBuilder().startBatch();
+        List<Employee> employees = new ArrayList<>();
+
+        builder.reset(1, "Pat", "Part").employeeType(EmployeeType.PART_TIME).hoursPerWeek(200)
+                .buildInto(employees);
+        builder.reset(2, "Cal", "Contract").employeeType(EmployeeType.CONTRACTOR)
+                .hireDate(HIRED).contractEndDate(HIRED.minusDays(1)).buildInto(employees);
+        builder.reset(3, "Fay", "Full").annualLeaveDays(-1).baseSalary(-5).buildInto(employees);
+
+        assertTrue(employees.isEmpty());
+        assertEquals(List.of(
+                "Row 1: Hours per week must be between 1 and 168",
+                "Row 2: Contract end date is before the hire date",
+                "Row 3: Base salary must not be negative",
+                "Row 3: Annual leave days must not be negative"), builder.getErrors());
+    }
+
+    @Test
+    void startBatchClearsErrorsAndRowCount() {
+        EmployeeBuilder builder = new EmployeeBuilder().startBatch();
+        List<Employee> employees = new ArrayList<>();
+        builder.reset(0, "No", "Id").buildInto(employees);
+        assertTrue(builder.hasErrors());
+
+        builder.startBatch();
+        assertFalse(builder.hasErrors());
+        builder.reset(0, "Still", "NoId").buildInto(employees);
+
+        assertEquals(List.of("Row 1: Employee ID must be positive"), builder.getErrors());
+    }
+
+    @Test
+    void rowsWithoutADepartmentShareTheBatchDefault() {
+        EmployeeBuilder builder = new EmployeeBuilder().startBatch();
+        List<Employee> employees = new ArrayList<>();
+        Department finance = new Department(2, "Finance", "CFO", "Building B");
+
+        builder.reset(1, "A", "One").buildInto(employees);
+        builder.reset(2, "B", "Two").department(finance).buildInto(employees);
+        builder.reset(3, "C", "Three").buildInto(employees);
+        builder.startBatch();
+        builder.reset(4, "D", "Four").buildInto(employees);
+
+        assertEquals("Human Resources", employees.get(0).getDepartment().getDepartmentName());
+        assertSame(employees.get(0).getDepartment(), employees.get(2).getDepartment());
+        assertSame(finance, employees.get(1).getDepartment());
+        assertNotSame(employees.get(0).getDepartment(), employees.get(3).getDepartment());
+    }
+
+    @Test
+    void buildsContractorsWithTheirContractFields() {
+        Employee employee = new EmployeeBuilder(9, "Cal", "Contract")
+                .employeeType("contractor")
+                .hireDate(HIRED)
+                .contractEndDate(HIRED.plusMonths(6))
+                .projectName("Migration")
+                .build();
+
+        assertTrue(employee instanceof Contractor);
+        assertEquals(HIRED.plusMonths(6), ((Contractor) employee).getContractEndDate());
+        assertEquals("Migration", ((Contractor) employee).getProjectName());
+    }
+
+    @Test
+    void validateReportsWithoutRowPrefixAndBuildRejectsMissingType() {
+        EmployeeBuilder builder = new EmployeeBuilder(5, "", "Smith").employeeType((EmployeeType) null);
+
+        assertEquals(List.of("First name is required", "Employee type is required"), builder.validate());
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+}
@@ -0,0 +1,115 @@
+package com.employeemanagementsystem.payroll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IntLongHashMapTest {
+
+    @Test
+    void getReturnsDefaultForMissingKey() {
+        IntLongHashMap map = new IntLongHashMap();
+
+        assertEquals(-1L, map.get(42, -1L));
+        assertFalse(map.containsKey(42));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void putOverwritesExistingValue() {
+        IntLongHashMap map = new IntLongHashMap();
+        map.put(7, 100L);
+        map.put(7, 250L);
+
+        assertEquals(250L, map.get(7, 0L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void zeroKeyIsStoredLikeAnyOtherKey() {
+        IntLongHashMap map = new IntLongHashMap();
+        assertFalse(map.containsKey(0));
+
+        map.put(0, 5L);
+        assertEquals(15L, map.addTo(0, 10L));
+        assertTrue(map.containsKey(0));
+        assertEquals(15L, map.get(0, -1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void addToStartsAbsentKeysAtZero() {
+        IntLongHashMap map = new IntLongHashMap();
+
+        assertEquals(300L, map.addTo(3, 300L));
+        assertEquals(250L, map.addTo(3, -50L));
+        assertEquals(250L, map.get(3, 0L));
+    }
+
+    @Test
+    void growsPastInitialCapacityWithoutLosingEntries() {
+        IntLongHashMap map = new IntLongHashMap(4);
+        for (int id = 1; id <= 10_000; id++) {
+            map.put(id, id * 100L);
+        }
+
+        assertEquals(10_000, map.size());
+        for (int id = 1; id <= 10_000; id++) {
+            assertEquals(id * 100L, map.get(id, -1L));
+        }
+        assertFalse(map.containsKey(10_001));
+    }
+
+    @Test
+    void matchesHashMapForRandomKeys() {
+        Random random = new Random(42);
+        IntLongHashMap map = new IntLongHashMap();
+        Map<Integer, Long> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(5_000) - 2_500;
+            long delta = random.nextInt(1_000);
+            map.addTo(key, delta);
+            expected.merge(key, delta, Long::sum);
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, Long> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().longValue(), map.get(entry.getKey(), -1L));
+        }
+    }
+
+    @Test
+    void forEachVisitsEveryEntryOnce() {
+        IntLongHashMap map = new IntLongHashMap();
+        map.put(0, 1L);
+        map.put(1, 2L);
+        map.put(-5, 3L);
+        map.put(1_000_000, 4L);
+
+        Map<Integer, Long> visited = new HashMap<>();
+        map.forEach((key, value) -> assertNull(visited.put(key, value)));
+
+        assertEquals(Map.of(0, 1L, 1, 2L, -5, 3L, 1_000_000, 4L), visited);
+    }
+
+    @Test
+    void clearRemovesAllEntries() {
+        IntLongHashMap map = new IntLongHashMap();
+        map.put(0, 1L);
+        map.put(9, 2L);
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(0));
+        assertFalse(map.containsKey(9));
+
+        map.put(9, 3L);
+        assertEquals(3L, map.get(9, 0L));
+    }
+}
@@ -0,0 +1,171 @@
+package com.employeemanagementsystem.payroll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PayrollJournalTest {
+
+    private static final long DAY = LocalDate.of(2025, 1, 31).toEpochDay();
+
+    @TempDir
+    Path directory;
+
+    private final List<PayrollJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() throws IOException {
+        for (PayrollJournal journal : opened) {
+            journal.close(new IntLongHashMap(), new IntLongHashMap(), new TreeMap<>());
+        }
+    }
+
+    @Test
+    void recoverReplaysOnlyRecordsAfterTheCheckpoint() throws IOException {
+        PayrollJournal journal = open(directory);
+        Recovered empty = recover(journal);
+        assertEquals(0, empty.replayed.size());
+
+        journal.append(1, DAY, 100L);
+        journal.append(2, DAY, 200L);
+        journal.append(3, DAY, 300L);
+
+        IntLongHashMap totals = new IntLongHashMap();
+        totals.put(1, 100L);
+        totals.put(2, 200L);
+        totals.put(3, 300L);
+        IntLongHashMap lastDays = new IntLongHashMap();
+        lastDays.put(1, DAY);
+        NavigableMap<LocalDate, IntLongHashMap> byDate = new TreeMap<>();
+        byDate.put(LocalDate.ofEpochDay(DAY), totals);
+        journal.checkpoint(totals, lastDays, byDate);
+
+        // The checkpoint rewinds the journal: these overwrite the first two records,
+        // and the third, older record left behind must not be replayed
+        journal.append(4, DAY + 1, 400L);
+        journal.append(5, DAY + 1, 500L);
+
+        Recovered recovered = recover(open(crashCopy()));
+
+        assertEquals(300L, recovered.totals.get(3, 0L));
+        assertEquals(DAY, recovered.lastDays.get(1, 0L));
+        assertEquals(200L, recovered.byDate.get(LocalDate.ofEpochDay(DAY)).get(2, 0L));
+        assertEquals(List.of("4@" + (DAY + 1) + "=400", "5@" + (DAY + 1) + "=500"), recovered.replayed);
+    }
+
+    @Test
+    void recoverWithoutCheckpointReplaysTheWholeJournal() throws IOException {
+        PayrollJournal journal = open(directory);
+        recover(journal);
+        journal.append(1, DAY, 100L);
+        journal.append(1, DAY + 30, 150L);
+
+        Recovered recovered = recover(open(crashCopy()));
+
+        assertTrue(recovered.totals.isEmpty());
+        assertEquals(List.of("1@" + DAY + "=100", "1@" + (DAY + 30) + "=150"), recovered.replayed);
+    }
+
+    @Test
+    void recoverStopsAtATornRecord() throws IOException {
+        PayrollJournal journal = open(directory);
+        recover(journal);
+        journal.append(1, DAY, 100L);
+        journal.append(2, DAY, 200L);
+        journal.append(3, DAY, 300L);
+
+        Path copy = crashCopy();
+        try (RandomAccessFile file = new RandomAccessFile(copy.resolve("payroll.journal").toFile(), "rw")) {
+            // Flip a byte of the second record's amount, so its checksum no longer matches
+            long offset = PayrollJournal.RECORD_SIZE + 8;
+            file.seek(offset);
+            int b = file.read();
+            file.seek(offset);
+            file.write(b ^ 0xFF);
+        }
+
+        assertEquals(List.of("1@" + DAY + "=100"), recover(open(copy)).replayed);
+    }
+
+    @Test
+    void closeCheckpointsSoReopeningReplaysNothing() throws IOException {
+        Path own = Files.createDirectory(directory.resolve("own"));
+        PayrollJournal journal = PayrollJournal.open(own);
+        recover(journal);
+        journal.append(7, DAY, 700L);
+
+        IntLongHashMap totals = new IntLongHashMap();
+        totals.put(7, 700L);
+        journal.close(totals, new IntLongHashMap(), new TreeMap<>());
+
+        Recovered recovered = recover(open(own));
+        assertEquals(700L, recovered.totals.get(7, 0L));
+        assertEquals(0, recovered.replayed.size());
+    }
+
+    @Test
+    void secondOpenFailsWhileTheJournalIsInUse() throws IOException {
+        open(directory);
+
+        assertThrows(IOException.class, () -> PayrollJournal.open(directory));
+    }
+
+    @Test
+    void appendGrowsPastTheInitialMapping() throws IOException {
+        PayrollJournal journal = open(directory);
+        recover(journal);
+        int records = 128 * 1024 + 10;
+        for (int i = 0; i < records; i++) {
+            journal.append(i + 1, DAY, 1L);
+        }
+
+        assertEquals(records, recover(open(crashCopy())).replayed.size());
+    }
+
+    private PayrollJournal open(Path dir) throws IOException {
+        PayrollJournal journal = PayrollJournal.open(dir);
+        opened.add(journal);
+        return journal;
+    }
+
+    /**
+     * Copy the journal files as they are now, like the state left by a crash
+     */
+    private Path crashCopy() throws IOException {
+        Path copy = Files.createTempDirectory(directory, "crash");
+        for (String name : new String[]{"payroll.journal", "payroll.checkpoint"}) {
+            Path source = directory.resolve(name);
+            if (Files.exists(source)) {
+                Files.copy(source, copy.resolve(name));
+            }
+        }
+        return copy;
+    }
+
+    private static Recovered recover(PayrollJournal journal) throws IOException {
+        Recovered recovered = new Recovered();
+        journal.recover(recovered.totals, recovered.lastDays, recovered.byDate,
+                (employeeId, epochDay, cents) -> recovered.replayed.add(employeeId + "@" + epochDay + "=" + cents));
+        return recovered;
+    }
+
+    private static final class Recovered {
+        final IntLongHashMap totals = new IntLongHashMap();
+        final IntLongHashMap lastDays = new IntLongHashMap();
+        final NavigableMap<LocalDate, IntLongHashMap> byDate = new TreeMap<>();
+        final List<String> replayed = new ArrayList<>();
+    }
+}